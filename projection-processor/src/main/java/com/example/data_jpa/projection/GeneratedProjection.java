@@ -0,0 +1,28 @@
+package com.example.data_jpa.projection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일 시점 프로젝션 생성
+ * - 애너테이션 프로세서가 '타입명 + _Projection' 클래스를 생성하고, 필요한 컬럼만 조회하는 JPQL(생성자 표현식)을 SELECT 상수로 제공
+ * - 인터페이스: getter마다 엔티티 속성(또는 단순한 SpEL 문자열 연결 @Value("#{target.a + ' ' + target.b.c}"))을 조회하는 구현 클래스 생성
+ * - 클래스: 유일한 public 생성자의 파라미터 이름으로 엔티티 속성을 조회
+ * - 연관관계 경로(ex: team.name)는 left join으로 변환
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface GeneratedProjection {
+
+    /**
+     * 조회할 엔티티 이름(JPQL 엔티티 이름, ex: Member)
+     */
+    String entity();
+
+    /**
+     * 엔티티 별칭(SELECT 상수 뒤에 where 절을 붙일 때 사용)
+     */
+    String alias() default "m";
+}
@@ -0,0 +1,238 @@
+package com.example.data_jpa.projection.processor;
+
+import com.example.data_jpa.projection.GeneratedProjection;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link GeneratedProjection} 애너테이션 프로세서
+ * - 프로젝션 타입마다 '타입명 + _Projection' 클래스를 생성
+ * - 생성 클래스의 SELECT 상수: "select new ...(필요한 속성만) from 엔티티 별칭 [left join ...]"
+ * - 인터페이스는 getter 값을 필드로 가지는 구현 클래스를 함께 생성하므로 조회 시 엔티티, 프록시, SpEL 평가가 필요 없음
+ * - TUPLE_SELECT 상수와 fromRow(Object[])/MAPPER: 생성자 표현식 대신 값만 조회하고, row를 생성자 직접 호출로 변환(리플렉션 X)
+ */
+@SupportedAnnotationTypes("com.example.data_jpa.projection.GeneratedProjection")
+public class GeneratedProjectionProcessor extends AbstractProcessor {
+
+    private static final String VALUE_ANNOTATION = "org.springframework.beans.factory.annotation.Value";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GeneratedProjection.class)) {
+            TypeElement type = (TypeElement) element;
+            try {
+                generate(type);
+            } catch (ProjectionException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "프로젝션 생성 실패: " + e.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        GeneratedProjection annotation = type.getAnnotation(GeneratedProjection.class);
+        JpqlSelect select = new JpqlSelect(annotation.entity(), annotation.alias());
+        List<Property> properties = type.getKind() == ElementKind.INTERFACE
+                ? interfaceProperties(type, select)
+                : constructorProperties(type, select);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String projectionName = type.getSimpleName() + "_Projection";
+        String qualifiedName = packageName.isEmpty() ? projectionName : packageName + "." + projectionName;
+        String instantiated = type.getKind() == ElementKind.INTERFACE ? qualifiedName : type.getQualifiedName().toString();
+
+        List<String> arguments = properties.stream().map(property -> property.expression).toList();
+        String jpql = select.render(instantiated, arguments);
+        String tupleJpql = select.renderTuple(arguments);
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * {@link " + type.getSimpleName() + "} 프로젝션(컴파일 시점 생성, 직접 수정하지 않음)");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            if (type.getKind() == ElementKind.INTERFACE) {
+                out.println("public final class " + projectionName + " implements " + type.getQualifiedName() + " {");
+            } else {
+                out.println("public final class " + projectionName + " {");
+            }
+            out.println();
+            out.println("    public static final String ALIAS = " + literal(annotation.alias()) + ";");
+            out.println("    public static final String SELECT = " + literal(jpql) + ";");
+            out.println("    public static final String TUPLE_SELECT = " + literal(tupleJpql) + ";");
+            out.println("    public static final java.util.function.Function<Object[], " + instantiated + "> MAPPER = "
+                    + projectionName + "::fromRow;");
+            out.println();
+            writeFromRow(out, instantiated, properties);
+            out.println();
+
+            if (type.getKind() == ElementKind.INTERFACE) {
+                writeImplementation(out, projectionName, properties);
+            } else {
+                out.println("    private " + projectionName + "() {");
+                out.println("    }");
+            }
+            out.println("}");
+        }
+    }
+
+    // TUPLE_SELECT 결과 row(선택 순서 = 생성자 파라미터 순서) -> 프로젝션
+    private void writeFromRow(PrintWriter out, String instantiated, List<Property> properties) {
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < properties.size(); i++) {
+            arguments.add("(" + properties.get(i).type + ") row[" + i + "]");
+        }
+        out.println("    @SuppressWarnings(\"unchecked\")");
+        out.println("    public static " + instantiated + " fromRow(Object[] row) {");
+        out.println("        return new " + instantiated + "(" + String.join(", ", arguments) + ");");
+        out.println("    }");
+    }
+
+    private void writeImplementation(PrintWriter out, String projectionName, List<Property> properties) {
+        for (Property property : properties) {
+            out.println("    private final " + property.type + " " + property.name + ";");
+        }
+        out.println();
+
+        List<String> parameters = properties.stream().map(property -> property.type + " " + property.name).toList();
+        out.println("    public " + projectionName + "(" + String.join(", ", parameters) + ") {");
+        for (Property property : properties) {
+            out.println("        this." + property.name + " = " + property.name + ";");
+        }
+        out.println("    }");
+
+        for (Property property : properties) {
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + property.type + " " + property.getter + "() {");
+            out.println("        return " + property.name + ";");
+            out.println("    }");
+        }
+
+        List<String> fields = properties.stream().map(property -> property.name + "=\" + " + property.name).toList();
+        out.println();
+        out.println("    @Override");
+        out.println("    public String toString() {");
+        out.println("        return \"" + projectionName + "(" + String.join(" + \", ", fields)
+                + (fields.isEmpty() ? "" : " + \"") + ")\";");
+        out.println("    }");
+    }
+
+    // 인터페이스: 추상 getter -> 엔티티 속성 경로 또는 @Value(SpEL)
+    private List<Property> interfaceProperties(TypeElement type, JpqlSelect select) {
+        List<Property> properties = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            String getter = method.getSimpleName().toString();
+            String name = propertyName(getter);
+            if (name == null || !method.getParameters().isEmpty()) {
+                throw new ProjectionException("프로젝션 인터페이스에는 getter만 선언할 수 있습니다: " + getter, method);
+            }
+
+            String spel = annotationValue(method, VALUE_ANNOTATION);
+            String expression = spel == null
+                    ? select.path(name)
+                    : SpelConcatenation.toJpql(spel, select, method);
+            properties.add(new Property(name, getter, method.getReturnType().toString(), expression));
+        }
+        return properties;
+    }
+
+    // 클래스: 유일한 public 생성자의 파라미터 이름 -> 엔티티 속성 경로
+    private List<Property> constructorProperties(TypeElement type, JpqlSelect select) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+                .toList();
+        if (constructors.size() != 1) {
+            throw new ProjectionException("프로젝션 클래스에는 public 생성자가 하나만 있어야 합니다.", type);
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement parameter : constructors.get(0).getParameters()) {
+            String name = parameter.getSimpleName().toString();
+            properties.add(new Property(name, null, parameter.asType().toString(), select.path(name)));
+        }
+        return properties;
+    }
+
+    private static String propertyName(String getter) {
+        String name;
+        if (getter.startsWith("get") && getter.length() > 3) {
+            name = getter.substring(3);
+        } else if (getter.startsWith("is") && getter.length() > 2) {
+            name = getter.substring(2);
+        } else {
+            return null;
+        }
+        // java.beans.Introspector.decapitalize와 동일한 규칙(URL -> URL, Name -> name)
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String annotationValue(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().toString().equals(annotationType)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return entry.getValue().getValue().toString();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static final class Property {
+
+        private final String name;
+        private final String getter;
+        private final String type;
+        private final String expression;
+
+        private Property(String name, String getter, String type, String expression) {
+            this.name = name;
+            this.getter = getter;
+            this.type = type;
+            this.expression = expression;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.data_jpa.projection.processor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝션 JPQL 생성
+ * - 속성 경로(ex: team.name)의 연관관계 부분은 left join 별칭으로 바꿈(ex: m_team.name)
+ */
+final class JpqlSelect {
+
+    private final String entity;
+    private final String alias;
+    private final Map<String, String> joinAliases = new LinkedHashMap<>(); // 연관관계 경로 -> join 별칭
+    private final Map<String, String> joinClauses = new LinkedHashMap<>(); // 연관관계 경로 -> join 절
+
+    JpqlSelect(String entity, String alias) {
+        this.entity = entity;
+        this.alias = alias;
+    }
+
+    String path(String path) {
+        String[] segments = path.split("\\.");
+        String current = alias;
+        String currentPath = "";
+        for (int i = 0; i < segments.length - 1; i++) {
+            currentPath = currentPath.isEmpty() ? segments[i] : currentPath + "." + segments[i];
+            String parent = current;
+            String segment = segments[i];
+            String joinAlias = alias + "_" + currentPath.replace('.', '_');
+            if (joinAliases.putIfAbsent(currentPath, joinAlias) == null) {
+                joinClauses.put(currentPath, "left join " + parent + "." + segment + " " + joinAlias);
+            }
+            current = joinAliases.get(currentPath);
+        }
+        return current + "." + segments[segments.length - 1];
+    }
+
+    String render(String instantiated, List<String> arguments) {
+        return from(new StringBuilder("select new ")
+                .append(instantiated)
+                .append("(").append(String.join(", ", arguments)).append(")"));
+    }
+
+    // 생성자 표현식 없이 값만 조회(row: Object[])
+    String renderTuple(List<String> arguments) {
+        return from(new StringBuilder("select ").append(String.join(", ", arguments)));
+    }
+
+    private String from(StringBuilder jpql) {
+        jpql.append(" from ").append(entity).append(" ").append(alias);
+        for (String joinClause : joinClauses.values()) {
+            jpql.append(" ").append(joinClause);
+        }
+        return jpql.toString();
+    }
+}
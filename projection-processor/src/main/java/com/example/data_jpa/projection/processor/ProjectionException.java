@@ -0,0 +1,16 @@
+package com.example.data_jpa.projection.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * 프로젝션 생성 불가(컴파일 오류로 보고)
+ */
+class ProjectionException extends RuntimeException {
+
+    final transient Element element;
+
+    ProjectionException(String message, Element element) {
+        super(message);
+        this.element = element;
+    }
+}
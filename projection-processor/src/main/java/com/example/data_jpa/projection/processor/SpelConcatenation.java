@@ -0,0 +1,76 @@
+package com.example.data_jpa.projection.processor;
+
+import javax.lang.model.element.Element;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 오픈 프로젝션의 SpEL(@Value)을 JPQL 식으로 변환
+ * - 지원 형식: 'target.속성경로'와 '문자열 리터럴'을 + 로 연결한 식(ex: #{target.username + ' ' + target.team.name})
+ * - SpEL은 null을 "null" 문자열로 연결하므로 같은 결과가 나오도록 coalesce 사용
+ */
+final class SpelConcatenation {
+
+    private static final Pattern TARGET_PATH = Pattern.compile("target(\\.[A-Za-z_][A-Za-z0-9_]*)+");
+
+    private SpelConcatenation() {
+    }
+
+    static String toJpql(String spel, JpqlSelect select, Element element) {
+        String expression = spel.trim();
+        if (!expression.startsWith("#{") || !expression.endsWith("}")) {
+            throw new ProjectionException("지원하지 않는 @Value 식입니다: " + spel, element);
+        }
+
+        List<String> terms = split(expression.substring(2, expression.length() - 1), element);
+        if (terms.size() == 1 && !isLiteral(terms.get(0))) {
+            return select.path(targetPath(terms.get(0), element));
+        }
+
+        List<String> parts = new ArrayList<>();
+        for (String term : terms) {
+            if (isLiteral(term)) {
+                parts.add(term);
+            } else {
+                parts.add("coalesce(cast(" + select.path(targetPath(term, element)) + " as String), 'null')");
+            }
+        }
+        return "concat(" + String.join(", ", parts) + ")";
+    }
+
+    // 작은따옴표 밖의 + 기준으로 나눔
+    private static List<String> split(String body, Element element) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (char c : body.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '+' && !quoted) {
+                terms.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        terms.add(current.toString().trim());
+
+        if (quoted || terms.stream().anyMatch(String::isEmpty)) {
+            throw new ProjectionException("지원하지 않는 @Value 식입니다: " + body, element);
+        }
+        return terms;
+    }
+
+    private static boolean isLiteral(String term) {
+        return term.length() >= 2 && term.startsWith("'") && term.endsWith("'");
+    }
+
+    private static String targetPath(String term, Element element) {
+        if (!TARGET_PATH.matcher(term).matches()) {
+            throw new ProjectionException("target.속성경로 또는 문자열 리터럴만 사용할 수 있습니다: " + term, element);
+        }
+        return term.substring("target.".length());
+    }
+}
@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# 시작 후 첫 요청까지 걸리는 시간(time-to-first-request) 측정
+# - baseline: 기본 설정(리포지토리 즉시 초기화, ddl-auto: create, 시작 시 데이터 등록)
+# - fast-start: fast-start 프로필 + 스프링 AOT + CDS(클래스 데이터 공유) 아카이브
+# 사용법: scripts/measure-startup.sh [반복 횟수(기본 5)]
+# - DB는 H2 파일(build/startup/datajpa)을 사용하므로 H2 TCP 서버가 없어도 실행 가능
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=18080
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK="$ROOT/build/startup"
+DB_URL="jdbc:h2:file:$WORK/datajpa"
+COMMON_ARGS=(--server.port=$PORT --spring.datasource.url="$DB_URL" --decorator.datasource.enabled=false)
+
+cd "$ROOT"
+./gradlew -q bootJar -Paot
+rm -rf "$WORK" && mkdir -p "$WORK"
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app"
+APP_JAR="$WORK/app/$(basename "$JAR")"
+
+# CDS 아카이브 생성(컨텍스트 시작 직후 종료하면서 로딩된 클래스를 기록), 스키마도 이때 생성
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+  -jar "$APP_JAR" "${COMMON_ARGS[@]}" > "$WORK/training.log" 2>&1
+
+# 시작부터 첫 요청(GET /members?size=1) 성공까지 걸린 시간(ms)
+measure() {
+  local start end pid
+  start=$(date +%s%N)
+  java "$@" > "$WORK/run.log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/members?size=1" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "application exited, see $WORK/run.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill "$pid" && wait "$pid" 2> /dev/null || true
+  echo $(((end - start) / 1000000))
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+run() {
+  local name=$1
+  shift
+  local results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    results+=("$(measure "$@")")
+  done
+  printf '%-12s median %5s ms  (%s)\n' "$name" "$(printf '%s\n' "${results[@]}" | median)" "${results[*]}"
+}
+
+run baseline -jar "$APP_JAR" "${COMMON_ARGS[@]}"
+run fast-start -XX:SharedArchiveFile="$WORK/app.jsa" -Dspring.aot.enabled=true \
+  -jar "$APP_JAR" "${COMMON_ARGS[@]}" --spring.profiles.active=fast-start
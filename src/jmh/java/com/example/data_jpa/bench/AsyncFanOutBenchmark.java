@@ -0,0 +1,70 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서로 관계없는 조회 3개(username, 전체 count, 나이별 페이지) - 순서대로 실행 vs 동시 실행(MemberAsyncRepository)
+ * - 회원 20만 명(username은 인덱스가 없으므로 전체 스캔)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncFanOutBenchmark {
+
+    private static final String USERNAME = "member0000000010";
+    private static final PageRequest PAGE = PageRequest.of(5, 20);
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("spring.threads.virtual.enabled=" + virtualThreads);
+        BenchmarkContext.seedMembers(context, 200_000);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        blackhole.consume(memberRepository.findListByUsername(USERNAME));
+        blackhole.consume(memberRepository.count());
+        blackhole.consume(memberRepository.findByAge(10, PAGE));
+    }
+
+    @Benchmark
+    public void parallel(Blackhole blackhole) {
+        CompletableFuture<List<Member>> sameUsername = memberRepository.findByUsernameAsync(USERNAME);
+        CompletableFuture<Long> totalCount = memberRepository.countAsync();
+        CompletableFuture<Page<Member>> sameAge = memberRepository.findByAgeAsync(10, PAGE);
+        CompletableFuture.allOf(sameUsername, totalCount, sameAge).join();
+        blackhole.consume(sameUsername.join());
+        blackhole.consume(totalCount.join());
+        blackhole.consume(sameAge.join());
+    }
+}
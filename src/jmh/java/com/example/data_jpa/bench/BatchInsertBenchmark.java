@@ -0,0 +1,70 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 등록 처리량(rows/sec)
+ * - saveEach: 기존 방식(save()를 건별로 호출, 건마다 트랜잭션)
+ * - saveAllBatched: JDBC 배치 insert + batchSize 마다 flush/clear
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchInsertBenchmark.ROWS)
+public class BatchInsertBenchmark {
+
+    static final int ROWS = 10_000;
+
+    @Param({"50", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void saveEach() {
+        for (Member member : members()) {
+            memberRepository.save(member);
+        }
+    }
+
+    @Benchmark
+    public void saveAllBatched() {
+        memberRepository.saveAllBatched(members(), batchSize);
+    }
+
+    private static List<Member> members() {
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("member" + i, i % 100));
+        }
+        return members;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.DataJpaApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 스프링 컨텍스트
+ * - H2 TCP 서버 대신 인메모리 H2 사용, SQL 로그(p6spy, org.hibernate.SQL)는 측정에 영향을 주므로 끔
+ */
+public final class BenchmarkContext {
+
+    /**
+     * 벤치마크 데이터의 식별자 시작 값
+     * - JDBC로 직접 넣는 데이터가 시퀀스(member_seq)로 생성되는 식별자와 겹치지 않도록 충분히 큰 값부터 사용
+     */
+    public static final long SEED_ID_START = 1_000_000_000L;
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    /**
+     * 내장 톰캣 포함(임의 포트, local.server.port로 확인)
+     */
+    public static ConfigurableApplicationContext startWeb(String... properties) {
+        List<String> webProperties = new ArrayList<>(List.of("server.port=0"));
+        webProperties.addAll(List.of(properties));
+        return start(WebApplicationType.SERVLET, webProperties.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "decorator.datasource.enabled=false",
+                "logging.level.org.hibernate.SQL=warn"
+        ));
+        defaults.addAll(List.of(properties));
+        return new SpringApplicationBuilder(DataJpaApplication.class)
+                .web(webApplicationType)
+                .properties(defaults.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * 회원 데이터를 JDBC로 한 번에 입력(username: member0000000001 ..., age: 0 ~ 99)
+     */
+    public static void seedMembers(ConfigurableApplicationContext context, int count) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into member (member_id, username, age)" +
+                        " select x, 'member' || lpad(x - ?, 10, '0'), mod(x, 100)" +
+                        " from system_range(?, ?)",
+                SEED_ID_START, SEED_ID_START + 1, SEED_ID_START + count);
+    }
+}
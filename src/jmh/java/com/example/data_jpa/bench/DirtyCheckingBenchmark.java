@@ -0,0 +1,85 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리 중인 회원 10만 명 중 일부만 변경 후 flush 시간(변경 감지 비용)
+ * - 바이트코드 향상 적용/미적용 비교: ./gradlew jmh vs ./gradlew jmh -PhibernateEnhancement=false
+ * - 메모리: gc.alloc.rate.norm(스냅샷 비교용 배열 할당량 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DirtyCheckingBenchmark {
+
+    private static final int MEMBER_COUNT = 100_000;
+
+    @Param({"100", "10000"})
+    public int modified;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager em;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedMembers(context, MEMBER_COUNT);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        checkEnhancement();
+    }
+
+    // 바이트코드 향상 적용 여부가 빌드 설정(-PhibernateEnhancement)과 다르면 측정하지 않음
+    private static void checkEnhancement() {
+        boolean expected = Boolean.parseBoolean(System.getProperty("bench.hibernateEnhancement", "true"));
+        boolean enhanced = ManagedEntity.class.isAssignableFrom(Member.class);
+        if (enhanced != expected) {
+            throw new IllegalStateException("바이트코드 향상 적용 여부가 설정과 다릅니다: expected=" + expected + ", enhanced=" + enhanced);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 측정 대상이 아닌 조회, 변경은 매 호출 전에 실행
+    @Setup(Level.Invocation)
+    public void load() {
+        em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+        List<Member> members = em.createQuery("select m from Member m", Member.class).getResultList();
+        for (int i = 0; i < modified; i++) {
+            Member member = members.get(i * (members.size() / modified));
+            member.setAge(member.getAge() + 1);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() {
+        em.getTransaction().rollback();
+        em.close();
+    }
+
+    @Benchmark
+    public void flush() {
+        em.flush();
+    }
+}
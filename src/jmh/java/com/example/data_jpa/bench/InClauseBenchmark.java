@@ -0,0 +1,64 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.InClauseMode;
+import com.example.data_jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 IN 절 조회 방식 비교(이름 10개, 1천 개, 10만 개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InClauseBenchmark {
+
+    private static final int MEMBER_COUNT = 200_000;
+
+    @Param({"10", "1000", "100000"})
+    public int names;
+
+    @Param({"SINGLE", "CHUNKED", "PARALLEL", "TEMP_TABLE"})
+    public InClauseMode mode;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private List<String> usernames;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedMembers(context, MEMBER_COUNT);
+        memberRepository = context.getBean(MemberRepository.class);
+
+        // 전체 회원 중 고르게 names개 선택(BenchmarkContext.seedMembers의 username 형식)
+        usernames = new ArrayList<>(names);
+        int step = MEMBER_COUNT / names;
+        for (int i = 1; i <= names; i++) {
+            usernames.add(String.format("member%010d", i * step));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> findByNames() {
+        return memberRepository.findByNames(usernames, mode);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.entity.Item;
+import com.example.data_jpa.repository.ItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 100만 건 적재 - 건별 save vs upsertAll(JDBC 배치 MERGE)
+ * - existing = false: 모두 새 식별자(save -> persist, insert)
+ * - existing = true: 모두 이미 존재하는 식별자(기존 방식은 조회 후 변경 감지, select + update)
+ * - 단위: 100만 건 처리 시간을 건수로 나눈 건당 시간(us/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@OperationsPerInvocation(ItemUpsertBenchmark.ROWS)
+public class ItemUpsertBenchmark {
+
+    static final int ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"false", "true"})
+    public boolean existing;
+
+    private ConfigurableApplicationContext context;
+    private ItemRepository itemRepository;
+    private TransactionTemplate tx;
+    private long nextId = 1;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        itemRepository = context.getBean(ItemRepository.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        if (existing) {
+            itemRepository.upsertAll(items(1), BATCH_SIZE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void save() {
+        long start = startId();
+        for (long id = start; id < start + ROWS; id++) {
+            long itemId = id;
+            tx.executeWithoutResult(status -> {
+                Item item = existing ? itemRepository.findById(itemId).orElseThrow() : null;
+                if (item == null) {
+                    itemRepository.save(new Item(itemId, "item" + itemId));
+                } else {
+                    item.changeName("item" + itemId);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public int upsertAll() {
+        return itemRepository.upsertAll(items(startId()), BATCH_SIZE);
+    }
+
+    // existing: 항상 1부터(이미 존재), 아니면 매번 새 범위
+    private long startId() {
+        if (existing) {
+            return 1;
+        }
+        long start = nextId;
+        nextId += ROWS;
+        return start;
+    }
+
+    private static List<Item> items(long start) {
+        List<Item> items = new ArrayList<>(ROWS);
+        for (long id = start; id < start + ROWS; id++) {
+            items.add(new Item(id, "item" + id));
+        }
+        return items;
+    }
+}
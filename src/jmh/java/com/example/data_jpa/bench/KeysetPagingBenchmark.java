@@ -0,0 +1,77 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * offset 페이징 vs 키셋 페이징
+ * - 1 페이지(page=0)와 10,000 페이지(page=9999)의 조회 시간을 비교
+ * - 정렬: username desc(키셋 페이징은 id asc가 보조 정렬 키로 추가되므로 offset 페이징도 같은 정렬 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeysetPagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGE_COUNT = 10_000;
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "username").and(Sort.by(Sort.Direction.ASC, "id"));
+
+    @Param({"0", "9999"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private ScrollPosition position;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedMembers(context, PAGE_SIZE * PAGE_COUNT);
+        memberRepository = context.getBean(MemberRepository.class);
+        position = positionOf(page);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Member> offset() {
+        return memberRepository.findAll(PageRequest.of(page, PAGE_SIZE, SORT));
+    }
+
+    @Benchmark
+    public Window<Member> keyset() {
+        return memberRepository.findWindowBy(position, SORT, Limit.of(PAGE_SIZE));
+    }
+
+    // 이전 페이지의 마지막 row로 키셋 위치를 만듦(측정 대상이 아니므로 offset으로 한 번만 조회)
+    private ScrollPosition positionOf(int page) {
+        if (page == 0) {
+            return ScrollPosition.keyset();
+        }
+        Member last = memberRepository.findAll(PageRequest.of(page * PAGE_SIZE - 1, 1, SORT)).getContent().get(0);
+        return ScrollPosition.forward(Map.of("username", last.getUsername(), "id", last.getId()));
+    }
+}
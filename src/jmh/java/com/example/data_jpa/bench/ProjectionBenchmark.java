@@ -0,0 +1,87 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.repository.MemberRepository;
+import com.example.data_jpa.repository.UsernameOnly;
+import com.example.data_jpa.repository.UsernameOnlyDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오픈 프로젝션(엔티티 조회 + 프록시 + SpEL) vs 컴파일 시점 생성 프로젝션
+ * - 같은 username의 회원 100명(팀 포함)을 조회
+ * - generatedProjection: 생성자 표현식(select new), 하이버네이트가 row마다 리플렉션으로 생성자 호출
+ * - classProjection: 스프링 데이터 클래스 기반 Projections(메서드 이름 쿼리, UsernameOnlyDto)
+ * - generatedDynamicProjection/generatedDynamicDtoProjection: 값만 조회 후 캐시된 생성 매퍼(fromRow)로 변환
+ * - 할당량 비교: gc.alloc.rate.norm 확인(build.gradle jmh 설정의 gc 프로파일러)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark {
+
+    private static final String USERNAME = "projection";
+
+    /**
+     * UsernameOnly와 같은 오픈 프로젝션(@GeneratedProjection 없음 -> 스프링 데이터 프로젝션으로 변환)
+     */
+    public interface OpenUsernameOnly {
+        @Value("#{target.username + ' ' + target.age + ' ' + target.team.name}")
+        String getUsername();
+    }
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into team (team_id, name) values (?, 'teamA')", BenchmarkContext.SEED_ID_START);
+        jdbcTemplate.update("insert into member (member_id, username, age, team_id)" +
+                        " select x, ?, 10, ? from system_range(?, ?)",
+                USERNAME, BenchmarkContext.SEED_ID_START, BenchmarkContext.SEED_ID_START + 1, BenchmarkContext.SEED_ID_START + 100);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OpenUsernameOnly> openProjection() {
+        return memberRepository.findProjectionsDynamicByUsername(USERNAME, OpenUsernameOnly.class);
+    }
+
+    @Benchmark
+    public List<UsernameOnly> generatedProjection() {
+        return memberRepository.findProjectionsInterfaceByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public List<UsernameOnly> generatedDynamicProjection() {
+        return memberRepository.findProjectionsDynamicByUsername(USERNAME, UsernameOnly.class);
+    }
+
+    @Benchmark
+    public List<UsernameOnlyDto> classProjection() {
+        return memberRepository.findProjectionsClassByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public List<UsernameOnlyDto> generatedDynamicDtoProjection() {
+        return memberRepository.findProjectionsDynamicByUsername(USERNAME, UsernameOnlyDto.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.controller.MemberController;
+import com.example.data_jpa.dto.MemberDto;
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberJpaRepository;
+import com.example.data_jpa.repository.MemberRepository;
+import com.example.data_jpa.repository.PagingMode;
+import com.example.data_jpa.repository.UsernameOnly;
+import com.example.data_jpa.repository.UsernameOnlyDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 순수 JPA 리포지토리(MemberJpaRepository) vs 스프링 데이터 JPA 리포지토리(MemberRepository)
+ * - 메서드 이름: jpa + 기능 / data + 기능 으로 같은 기능을 나란히 비교
+ * - 처리량(ops/ms)과 할당량(gc.alloc.rate.norm)은 build/results/jmh/results.json 으로 저장되므로 릴리스 간 비교 가능
+ * - 데이터: 회원 1만 명(나이 0 ~ 99), 팀 100개
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RepositoryBenchmark {
+
+    private static final int MEMBER_COUNT = 10_000;
+    private static final int TEAM_COUNT = 100;
+    private static final int AGE = 10;
+    private static final String USERNAME = "member0000000010";
+    private static final PageRequest PAGE = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "username"));
+
+    private ConfigurableApplicationContext context;
+    private MemberJpaRepository memberJpaRepository;
+    private MemberRepository memberRepository;
+    private MemberController memberController;
+    private TransactionTemplate tx;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedMembers(context, MEMBER_COUNT);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into team (team_id, name) select x, 'team' || (x - ?) from system_range(?, ?)",
+                BenchmarkContext.SEED_ID_START, BenchmarkContext.SEED_ID_START + 1, BenchmarkContext.SEED_ID_START + TEAM_COUNT);
+        jdbcTemplate.update("update member set team_id = ? + mod(member_id, ?) + 1 where member_id > ?",
+                BenchmarkContext.SEED_ID_START, TEAM_COUNT, BenchmarkContext.SEED_ID_START);
+
+        memberJpaRepository = context.getBean(MemberJpaRepository.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        memberController = context.getBean(MemberController.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 등록(둘 다 트랜잭션 1개 + insert 1건)
+    @Benchmark
+    public Member jpaSave() {
+        return tx.execute(status -> memberJpaRepository.save(new Member("saved", 200)));
+    }
+
+    @Benchmark
+    public Member dataSave() {
+        return memberRepository.save(new Member("saved", 200));
+    }
+
+    // username 조회: JPA NamedQuery vs 메서드 이름으로 쿼리
+    @Benchmark
+    public List<Member> jpaFindByUsername() {
+        return memberJpaRepository.findByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public List<Member> dataFindByUsername() {
+        return memberRepository.findListByUsername(USERNAME);
+    }
+
+    // 페이징: offset/limit + count 직접 작성 vs Pageable
+    @Benchmark
+    public void jpaFindByPage(Blackhole blackhole) {
+        blackhole.consume(memberJpaRepository.findByPage(AGE, (int) PAGE.getOffset(), PAGE.getPageSize()));
+        blackhole.consume(memberJpaRepository.totalCount(AGE));
+    }
+
+    @Benchmark
+    public Page<Member> dataFindByAge() {
+        return memberRepository.findByAge(AGE, PAGE);
+    }
+
+    // 팀 함께 조회: 지연 로딩(N + 1) vs @EntityGraph
+    @Benchmark
+    public void lazyTeamByUsername(Blackhole blackhole) {
+        tx.executeWithoutResult(status -> memberRepository.findListByUsername(USERNAME)
+                .forEach(member -> blackhole.consume(member.getTeam().getName())));
+    }
+
+    @Benchmark
+    public List<Member> entityGraphByUsername() {
+        return memberRepository.findEntityGraphByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public List<Member> namedEntityGraphAll() {
+        return memberRepository.findMemberNamedEntityGraph();
+    }
+
+    // 프로젝션
+    @Benchmark
+    public List<UsernameOnly> interfaceProjection() {
+        return memberRepository.findProjectionsInterfaceByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public List<UsernameOnlyDto> classProjection() {
+        return memberRepository.findProjectionsClassByUsername(USERNAME);
+    }
+
+    // 벌크 수정: 나이 99 이상(전체의 약 1%, 매번 같은 회원)
+    @Benchmark
+    public Integer jpaBulkAgePlus() {
+        return tx.execute(status -> memberJpaRepository.bulkAgePlus(99));
+    }
+
+    @Benchmark
+    public int dataBulkAgePlus() {
+        return memberRepository.bulkAgePlus(99);
+    }
+
+    // 컨트롤러(HTTP 처리 제외, 조회 + DTO 변환)
+    @Benchmark
+    public Slice<MemberDto> controllerMembersToDto() {
+        return memberController.findMembersToDto(PAGE, PagingMode.COUNT);
+    }
+
+    @Benchmark
+    public Slice<MemberDto> controllerMembersByAge() {
+        return memberController.findMembersByAge(AGE, PAGE, PagingMode.HAS_MORE);
+    }
+}
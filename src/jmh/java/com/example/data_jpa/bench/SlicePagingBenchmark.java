@@ -0,0 +1,79 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.dto.MemberDto;
+import com.example.data_jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page vs Slice - 회원 1,000만 건
+ * - page: select + count(나이가 같은 회원 10만 건을 매번 count)
+ * - slice: select(size + 1건)만 실행
+ * - count: page - slice 차이에 해당하는 count 쿼리만 단독 측정
+ * - 정렬: id desc
+ * - 실행: ./gradlew jmh -Pjmh.includes=SlicePagingBenchmark (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g") // 인메모리 H2에 1,000만 건 적재
+public class SlicePagingBenchmark {
+
+    private static final int ROWS = 10_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int AGE = 10;
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "id");
+
+    @Param({"0", "100"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private JdbcTemplate jdbcTemplate;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedMembers(context, ROWS);
+        memberRepository = context.getBean(MemberRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        pageRequest = PageRequest.of(page, PAGE_SIZE, SORT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<MemberDto> page() {
+        return memberRepository.findMemberDtoPageByAge(AGE, pageRequest);
+    }
+
+    @Benchmark
+    public Slice<MemberDto> slice() {
+        return memberRepository.findMemberDtoSliceByAge(AGE, pageRequest);
+    }
+
+    @Benchmark
+    public Long count() {
+        return jdbcTemplate.queryForObject("select count(*) from member where age = ?", Long.class, AGE);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.data_jpa.bench;
+
+import com.example.data_jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 테스트 - 톰캣 플랫폼 스레드 풀 vs 가상 스레드(+ 커넥션 벌크헤드)
+ * - 동시 클라이언트 400(톰캣 최대 스레드 50으로 제한해서 JDBC 대기 중인 스레드가 처리량을 막는 상황을 재현)
+ * - Throughput: 처리량, SampleTime: p0.99 지연 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class VirtualThreadLoadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI members;
+    private URI member;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.startWeb(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=50",
+                "app.monitoring.n-plus-one.mode=off",
+                "logging.level.org.apache.tomcat=warn");
+        BenchmarkContext.seedMembers(context, 10_000);
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        Long id = context.getBean(MemberRepository.class).findTop3By().get(0).getId();
+        members = URI.create(baseUrl + "/members?page=10&size=20");
+        member = URI.create(baseUrl + "/members1/" + id);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String members() throws IOException, InterruptedException {
+        return get(members);
+    }
+
+    @Benchmark
+    public String memberById() throws IOException, InterruptedException {
+        return get(member);
+    }
+
+    private String get(URI uri) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " -> " + response.statusCode());
+        }
+        return response.body();
+    }
+}
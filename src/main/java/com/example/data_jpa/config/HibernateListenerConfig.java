@@ -0,0 +1,67 @@
+package com.example.data_jpa.config;
+
+import com.example.data_jpa.repository.MemberCountCacheListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하이버네이트 이벤트 리스너 등록
+ * - 엔티티에 @EntityListeners를 선언하지 않고 스프링 빈을 리스너로 등록(엔티티가 리스너 패키지에 의존하지 않음)
+ * - 등록되는 빈은 EntityManagerFactory에 의존하면 안 됨(순환 참조)
+ */
+@Configuration
+public class HibernateListenerConfig {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    /**
+     * 회원 등록/수정/삭제 시 count 캐시 무효화
+     */
+    @Bean
+    public HibernatePropertiesCustomizer memberCountCacheListenerCustomizer(MemberCountCacheListener listener) {
+        return listenerCustomizer(listener, EventType.POST_INSERT, EventType.POST_UPDATE, EventType.POST_DELETE);
+    }
+
+    /**
+     * listener를 이벤트 타입별로 등록하는 customizer
+     * - hibernate.integrator_provider 설정은 하나뿐이므로 이미 등록된 IntegratorProvider가 있으면 합쳐서 등록(customizer 순서와 관계없음)
+     */
+    public static HibernatePropertiesCustomizer listenerCustomizer(Object listener, EventType<?>... types) {
+        Integrator integrator = new Integrator() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+                for (EventType<?> type : types) {
+                    registry.appendListeners((EventType<Object>) type, listener);
+                }
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+
+        return properties -> {
+            List<Integrator> integrators = new ArrayList<>();
+            if (properties.get(INTEGRATOR_PROVIDER) instanceof IntegratorProvider existing) {
+                integrators.addAll(existing.getIntegrators());
+            }
+            integrators.add(integrator);
+            List<Integrator> resolved = List.copyOf(integrators);
+            properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> resolved);
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.data_jpa.config;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샘플 회원 데이터 등록(기존 MemberController.init())
+ * - app.seed.mode
+ *   - startup: 시작 시 등록(기본값, 등록이 끝난 뒤 트래픽을 받음)
+ *   - background: repositoryTaskExecutor에서 등록(시작 시간에 포함되지 않음, fast-start 프로필)
+ *   - none: 등록하지 않음
+ * - 회원이 이미 있으면 등록하지 않음(ddl-auto none으로 재시작해도 중복 등록되지 않도록)
+ */
+@Slf4j
+@Component
+public class MemberSeeder implements ApplicationRunner {
+
+    public enum Mode {
+        STARTUP, BACKGROUND, NONE
+    }
+
+    private final MemberRepository memberRepository;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Mode mode;
+
+    public MemberSeeder(MemberRepository memberRepository,
+                        @Qualifier("repositoryTaskExecutor") AsyncTaskExecutor taskExecutor,
+                        @Value("${app.seed.mode:startup}") Mode mode) {
+        this.memberRepository = memberRepository;
+        this.taskExecutor = taskExecutor;
+        this.mode = mode;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        switch (mode) {
+            case STARTUP -> seed();
+            case BACKGROUND -> taskExecutor.execute(() -> {
+                try {
+                    seed();
+                } catch (RuntimeException e) {
+                    log.warn("background seeding failed", e);
+                }
+            });
+            case NONE -> {
+            }
+        }
+    }
+
+    private void seed() {
+        if (memberRepository.count() > 0) {
+            log.info("members already exist, skip seeding");
+            return;
+        }
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i < 100; i++) {
+            members.add(new Member("member" + i, i));
+        }
+        memberRepository.saveAllBatched(members, 100);
+    }
+}
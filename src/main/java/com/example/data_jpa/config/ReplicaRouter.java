@@ -0,0 +1,173 @@
+package com.example.data_jpa.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커넥션을 가져올 데이터소스 선택(ReplicaRoutingDataSource에서 사용)
+ * - 읽기 전용 트랜잭션: 정상(health check 성공, 복제 지연 maxLag 이하)인 replica를 라운드 로빈으로 선택, 없으면 primary
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없음): primary
+ * - 쓰기 트랜잭션이 커밋되면 stickyWindow 동안 같은 작성자(writer)의 읽기도 primary로 보내서 방금 쓴 데이터를 읽을 수 있게 함
+ *   - 작성자: HTTP 세션이 있으면 세션, 없으면 스레드(다른 사용자/스레드의 읽기는 계속 replica 사용)
+ */
+public class ReplicaRouter implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<ReplicaState> replicas;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    private final Cache<String, Boolean> stickyWriters;
+
+    public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas, RoutingDataSourceProperties properties) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new ReplicaState(entry.getKey(), entry.getValue()))
+                .toList();
+        this.stickyWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStickyWindow())
+                .maximumSize(properties.getMaxStickyWriters())
+                .build();
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.lagQuery = properties.getLagQuery();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public Map<Object, Object> targetDataSources() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return targets;
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickToPrimaryAfterCommit();
+            return PRIMARY;
+        }
+        if (stickyWriters.getIfPresent(writer()) != null) {
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaState replica = replicas.get((start + i) % size);
+            if (replica.healthy && replica.lagMillis <= maxLagMillis) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * replica 상태 확인(커넥션 유효성 + 복제 지연)
+     */
+    public void checkHealth() {
+        for (ReplicaState replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(1);
+                replica.lagMillis = lag(connection);
+            } catch (Exception e) {
+                replica.healthy = false;
+            }
+        }
+    }
+
+    private long lag(Connection connection) throws Exception {
+        if (lagQuery == null) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? (long) (resultSet.getDouble(1) * 1000) : 0;
+        }
+    }
+
+    private void stickToPrimaryAfterCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        String writer = writer();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyWriters.put(writer, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * 읽기 일관성을 보장할 작성자 식별
+     * - 요청 처리 중이고 세션이 있으면 세션(같은 사용자의 다음 요청도 primary), 없으면 현재 스레드
+     * - 세션을 새로 만들지는 않음
+     */
+    private static String writer() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpSession session = attributes.getRequest().getSession(false);
+            if (session != null) {
+                return "session:" + session.getId();
+            }
+        }
+        return "thread:" + Thread.currentThread().threadId();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        healthChecker.shutdownNow();
+        for (ReplicaState replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static class ReplicaState {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagMillis;
+
+        private ReplicaState(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.data_jpa.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 트랜잭션의 읽기 전용 여부에 따라 primary/replica 커넥션을 반환
+ * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않았으므로 LazyConnectionDataSourceProxy로 감싸서 사용(실제 SQL 실행 시점에 커넥션 획득)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(ReplicaRouter router) {
+        this.router = router;
+        setTargetDataSources(router.targetDataSources());
+        setDefaultTargetDataSource(router.primary());
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.route();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.data_jpa.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 리포지토리 작업 실행 환경
+ * - spring.threads.virtual.enabled: true 이면 톰캣 요청 처리와 repositoryTaskExecutor가 가상 스레드 사용
+ * - 커넥션 벌크헤드(app.datasource.bulkhead.enabled): 동시에 커넥션을 사용하는 스레드 수를 커넥션 풀 크기로 제한
+ */
+@Configuration
+public class RepositoryExecutionConfig {
+
+    static final int DEFAULT_MAX_CONCURRENT = 10; // HikariCP 기본 최대 풀 크기
+
+    /**
+     * 리포지토리 병렬 조회용 실행기(InClauseMode.PARALLEL 등)
+     * - 가상 스레드: 작업마다 스레드 생성, 동시 실행 수만 커넥션 풀 크기로 제한
+     * - 플랫폼 스레드: 커넥션 풀 크기의 스레드 풀
+     */
+    @Bean
+    public AsyncTaskExecutor repositoryTaskExecutor(Environment environment,
+                                                    @Value("${spring.datasource.hikari.maximum-pool-size:" + DEFAULT_MAX_CONCURRENT + "}") int poolSize) {
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("repository-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("repository-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.bulkhead", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor connectionBulkheadPostProcessor(
+            @Value("${app.datasource.bulkhead.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                int maxConcurrent = hikari != null ? hikari.getMaximumPoolSize() : DEFAULT_MAX_CONCURRENT;
+                return new ConnectionBulkheadDataSource(dataSource, maxConcurrent, acquireTimeout);
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.data_jpa.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 데이터소스 분리(app.datasource.routing.enabled: true)
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true), 스프링 데이터 JPA 조회 메서드 기본값)은 replica
+ * - 쓰기 트랜잭션(save, bulkAgePlus 등)은 primary
+ */
+@Configuration
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public ReplicaRouter replicaRouter(DataSourceProperties dataSourceProperties, RoutingDataSourceProperties routingProperties,
+                                       Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        bindHikari(binder, primary, ReplicaRouter.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<RoutingDataSourceProperties.Replica> replicaProperties = routingProperties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            RoutingDataSourceProperties.Replica replica = replicaProperties.get(i);
+            String name = "replica-" + i;
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            bindHikari(binder, dataSource, name);
+            replicas.put(name, dataSource);
+        }
+        return new ReplicaRouter(primary, replicas, routingProperties);
+    }
+
+    /**
+     * spring.datasource.hikari 설정 적용(기본 자동 설정의 DataSource와 같은 풀 설정)
+     * - 풀 이름은 데이터소스마다 구분되도록 설정 값 뒤에 primary/replica-N을 붙임
+     */
+    private static void bindHikari(Binder binder, HikariDataSource dataSource, String name) {
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        String poolName = dataSource.getPoolName();
+        dataSource.setPoolName(poolName != null ? poolName + "-" + name : name);
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return new ReplicaRoutingDataSource(replicaRouter);
+    }
+
+    /**
+     * 라우팅 DataSource를 LazyConnectionDataSourceProxy로 감쌈(DataSource 데코레이터(p6spy)가 감싼 뒤에 실행)
+     * - 데코레이터가 LazyConnectionDataSourceProxy 바깥에 있으면 트랜잭션 시작 시점(읽기 전용 여부 설정 전)에 실제 커넥션을 얻어서 항상 primary로 라우팅됨
+     */
+    @Bean
+    public static BeanPostProcessor lazyConnectionPostProcessor() {
+        return new LazyConnectionPostProcessor();
+    }
+
+    private static class LazyConnectionPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                return new LazyConnectionDataSourceProxy(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
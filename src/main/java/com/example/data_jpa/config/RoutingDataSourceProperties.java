@@ -0,0 +1,35 @@
+package com.example.data_jpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정(app.datasource.routing)
+ * - 쓰기(primary): spring.datasource
+ * - 읽기(replica): replicas
+ * - 커넥션 풀 설정(spring.datasource.hikari)은 primary와 replica에 공통으로 적용
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration stickyWindow = Duration.ofSeconds(1); // 쓰기 트랜잭션 커밋 후 같은 작성자(세션 또는 스레드)의 읽기도 primary로 보내는 시간
+    private long maxStickyWriters = 100_000; // stickyWindow 동안 기억할 작성자 최대 수
+    private Duration maxLag = Duration.ofSeconds(5); // 이보다 복제가 지연된 replica는 사용하지 않음
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private String lagQuery; // replica의 복제 지연(초)을 반환하는 쿼리, 없으면 지연 0으로 판단
+
+    @Getter @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
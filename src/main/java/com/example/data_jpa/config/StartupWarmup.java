@@ -0,0 +1,211 @@
+package com.example.data_jpa.config;
+
+import com.example.data_jpa.repository.MemberRepository;
+import com.example.data_jpa.repository.UsernameOnly;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StopWatch;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시 워밍업 - 배포 직후 첫 요청이 쿼리 플랜 생성, 커넥션 생성 비용을 부담하지 않도록 준비(app.warmup)
+ * - ApplicationRunner는 애플리케이션 준비 완료(readiness: ACCEPTING_TRAFFIC) 전에 실행되므로 끝난 뒤 트래픽을 받음
+ * 1. 커넥션 풀 채우기: 풀 크기만큼 커넥션을 동시에 얻었다가 반환
+ * 2. 리포지토리 조회 실행(representative-reads): MemberRepository(사용자 정의 리포지토리 포함)의 조회 메서드를 작은 값으로 한 번씩 실행
+ *    - @Query는 스프링 데이터 JPA가 시작 시점에 검증하지만, 메서드 이름 쿼리의 정렬/페이징/count 쿼리, Limit, 모드별 쿼리는 실행 시점에 만들어지므로 직접 실행해야 쿼리 플랜 캐시에 등록됨
+ *    - 리포지토리 프록시, JDBC 드라이버, JIT도 함께 준비
+ *    - 수정 메서드(@Modifying, save/delete/remove/bulk)와 조건 없이 전체를 읽는 메서드(파라미터 없는 컬렉션 조회)는 제외
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final List<String> WRITE_PREFIXES = List.of("save", "delete", "remove", "bulk");
+
+    private final DataSource dataSource;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean representativeReads;
+
+    public StartupWarmup(DataSource dataSource, MemberRepository memberRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.warmup.representative-reads:true}") boolean representativeReads) {
+        this.dataSource = dataSource;
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.representativeReads = representativeReads;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        StopWatch stopWatch = new StopWatch("startup warm-up");
+
+        stopWatch.start("connection pool");
+        int connections = fillConnectionPool();
+        stopWatch.stop();
+
+        int queries = 0;
+        if (representativeReads) {
+            stopWatch.start("repository queries");
+            queries = runRepositoryQueries();
+            stopWatch.stop();
+        }
+
+        for (StopWatch.TaskInfo task : stopWatch.getTaskInfo()) {
+            log.info("warm-up {}: {}ms", task.getTaskName(), task.getTime(TimeUnit.MILLISECONDS));
+        }
+        log.info("warm-up completed in {}ms (connections: {}, repository queries: {})",
+                stopWatch.getTotalTime(TimeUnit.MILLISECONDS), connections, queries);
+    }
+
+    private int fillConnectionPool() {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        int size = hikari != null ? hikari.getMaximumPoolSize() : 1;
+
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("warm-up: connection pool fill stopped at {} connections", connections.size(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.warn("warm-up: failed to return connection", e);
+                }
+            }
+        }
+        return connections.size();
+    }
+
+    private int runRepositoryQueries() {
+        int count = 0;
+        for (Method method : MemberRepository.class.getMethods()) {
+            if (!isWarmupTarget(method)) {
+                continue;
+            }
+            List<Object[]> argumentsList = arguments(method);
+            if (argumentsList.isEmpty()) {
+                log.debug("warm-up: skipped {} (unsupported parameter)", method.getName());
+            }
+            for (Object[] arguments : argumentsList) {
+                count += invoke(method, arguments);
+            }
+        }
+        return count;
+    }
+
+    // MemberRepository와 사용자 정의 리포지토리에 선언된 조회 메서드만(JpaRepository 공통 메서드 제외)
+    private static boolean isWarmupTarget(Method method) {
+        if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+                || !method.getDeclaringClass().getPackageName().equals(MemberRepository.class.getPackageName())) {
+            return false;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(method, Modifying.class)
+                || WRITE_PREFIXES.stream().anyMatch(method.getName()::startsWith)
+                || CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+            return false;
+        }
+        return method.getParameterCount() > 0 || !Iterable.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * 파라미터 타입별 워밍업 값(결과가 적은 값, 정렬은 항상 포함)
+     * - enum(PagingMode, InClauseMode 등)은 값마다 쿼리가 다르므로 모든 값으로 한 번씩 실행
+     * - 지원하지 않는 타입이 있으면 빈 목록(실행하지 않음)
+     */
+    private static List<Object[]> arguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        List<Object[]> argumentsList = new ArrayList<>();
+        argumentsList.add(new Object[types.length]);
+        for (int i = 0; i < types.length; i++) {
+            List<?> values = values(types[i]);
+            if (values.isEmpty()) {
+                return List.of();
+            }
+            List<Object[]> expanded = new ArrayList<>();
+            for (Object[] arguments : argumentsList) {
+                for (Object value : values) {
+                    Object[] copy = arguments.clone();
+                    copy[i] = value;
+                    expanded.add(copy);
+                }
+            }
+            argumentsList = expanded;
+        }
+        return argumentsList;
+    }
+
+    private static List<?> values(Class<?> type) {
+        if (type == String.class) {
+            return List.of("");
+        }
+        if (type == int.class || type == Integer.class) {
+            return List.of(0);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(List.of(""));
+        }
+        if (type == Pageable.class) {
+            return List.of(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "username")));
+        }
+        if (type == Sort.class) {
+            return List.of(Sort.by("username"));
+        }
+        if (type == Limit.class) {
+            return List.of(Limit.of(1));
+        }
+        if (type == ScrollPosition.class) {
+            return List.of(ScrollPosition.keyset());
+        }
+        if (type == Class.class) {
+            return List.of(UsernameOnly.class);
+        }
+        if (type.isEnum()) {
+            return List.of(type.getEnumConstants());
+        }
+        return List.of();
+    }
+
+    // 메서드마다 별도 트랜잭션(하나가 실패해도 나머지는 실행)
+    private int invoke(Method method, Object[] arguments) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> ReflectionUtils.invokeMethod(method, memberRepository, arguments));
+            return 1;
+        } catch (RuntimeException e) {
+            log.warn("warm-up: {} failed", method.getName(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.data_jpa.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 2차 캐시 통계
+ * - 캐시 영역별 hit/miss/put 횟수를 확인해서 조회 트래픽을 캐시가 얼마나 처리하는지 확인
+ * - hibernate.generate_statistics: true 설정 필요, 꺼져 있으면(prod 프로필) 0 대신 503 응답
+ */
+@RestController
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // ex: {"member": {"hit": 10, "miss": 2, "put": 2, "size": 2}, "team": {...}}
+    @GetMapping("/cache/stats")
+    public Map<String, Map<String, Long>> cacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "hibernate.generate_statistics가 꺼져 있어서 캐시 통계를 수집하지 않습니다.");
+        }
+
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            Map<String, Long> counts = new LinkedHashMap<>();
+            counts.put("hit", regionStatistics.getHitCount());
+            counts.put("miss", regionStatistics.getMissCount());
+            counts.put("put", regionStatistics.getPutCount());
+            counts.put("size", regionStatistics.getElementCountInMemory());
+            result.put(region, counts);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.data_jpa.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키셋 페이징 커서
+ * - 마지막으로 조회한 row의 정렬 키(ex: {username, id})를 JSON -> Base64(URL safe)로 인코딩한 불투명(opaque) 토큰
+ * - 클라이언트는 토큰 내용을 알 필요 없이 응답의 next 값을 다음 요청의 after 파라미터로 그대로 전달
+ */
+final class KeysetCursor {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 커서로 사용할 수 있는 Member 정렬 키와 타입(JSON 숫자는 Integer/Long 구분이 없으므로 타입을 맞춰서 복원)
+    private static final Map<String, Class<?>> keyTypes = Map.of(
+            "id", Long.class,
+            "username", String.class,
+            "age", Integer.class
+    );
+
+    private KeysetCursor() {
+    }
+
+    static String encode(KeysetScrollPosition position) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(position.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("커서를 생성할 수 없습니다.", e);
+        }
+    }
+
+    static ScrollPosition decode(String cursor, Sort sort) {
+        Map<String, Object> raw;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            raw = objectMapper.readValue(new String(json, StandardCharsets.UTF_8), new TypeReference<>() {
+            });
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        raw.forEach((property, value) -> {
+            Class<?> type = keyTypes.get(property);
+            if (type == null) {
+                throw new IllegalArgumentException("커서에 사용할 수 없는 정렬 키입니다: " + property);
+            }
+            keys.put(property, objectMapper.convertValue(value, type));
+        });
+
+        // 커서를 만든 요청과 정렬 조건이 달라지면 다음 위치를 계산할 수 없음
+        for (Sort.Order order : sort) {
+            if (!keys.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("커서와 정렬 조건이 일치하지 않습니다: " + order.getProperty());
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -1,18 +1,31 @@
 package com.example.data_jpa.controller;
 
 import com.example.data_jpa.dto.MemberDto;
+import com.example.data_jpa.dto.MemberSummaryDto;
+import com.example.data_jpa.dto.MemberWindowDto;
+import com.example.data_jpa.dto.SliceResponse;
 import com.example.data_jpa.entity.Member;
 import com.example.data_jpa.repository.MemberRepository;
-import jakarta.annotation.PostConstruct;
+import com.example.data_jpa.repository.PagingMode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class MemberController {
@@ -58,16 +71,109 @@ public class MemberController {
 
     /**
      * 페이징과 정렬 - DTO로 변환
+     * - mode: 페이징 모드 선택(기본값 COUNT는 기존과 동일하게 매 요청 count 쿼리 실행)
+     * ex: /members_to_dto?page=0&size=3&mode=HAS_MORE
      */
     @GetMapping("/members_to_dto")
-    public Page<MemberDto> findMembersToDto(Pageable pageable) {
-        return memberRepository.findAll(pageable).map(MemberDto::new);
+    public Slice<MemberDto> findMembersToDto(Pageable pageable,
+                                             @RequestParam(value = "mode", defaultValue = "COUNT") PagingMode mode) {
+        if (mode == PagingMode.COUNT) {
+            return memberRepository.findAll(pageable).map(MemberDto::new);
+        }
+        return memberRepository.findPage(pageable, mode).map(MemberDto::new);
+    }
+
+    /**
+     * 페이징과 정렬 - DTO로 직접 조회
+     * - 엔티티를 조회한 뒤 변환하지 않고 조회 결과를 바로 MemberDto(teamName 포함)로 채움
+     * - PagedModel은 content/page 메타데이터만 응답하므로 DTO 목록을 그대로 JSON으로 직렬화
+     * ex: /members/dto?page=0&size=3&sort=username,desc
+     */
+    @GetMapping("/members/dto")
+    public PagedModel<MemberDto> findMemberDtos(Pageable pageable) {
+        return new PagedModel<>(memberRepository.findMemberDtoPage(pageable));
+    }
+
+    /**
+     * ex: /members/dto/age/10?page=0&size=3&sort=t.name
+     */
+    @GetMapping("/members/dto/age/{age}")
+    public PagedModel<MemberDto> findMemberDtosByAge(@PathVariable("age") int age, Pageable pageable) {
+        return new PagedModel<>(memberRepository.findMemberDtoPageByAge(age, pageable));
+    }
+
+    /**
+     * 페이징과 정렬 - Slice(무한 스크롤)
+     * - count 쿼리 없이 size + 1건을 조회해서 다음 페이지 존재 여부(hasNext)만 응답
+     * ex: /members/slice?page=0&size=20&sort=username,desc
+     */
+    @GetMapping("/members/slice")
+    public SliceResponse<MemberDto> findMemberSlice(Pageable pageable) {
+        return new SliceResponse<>(memberRepository.findMemberDtoSlice(pageable));
     }
 
-    @PostConstruct
-    public void init() {
-        for (int i = 1; i < 100; i++) {
-            memberRepository.save(new Member("member" + i, i));
+    /**
+     * ex: /members/slice/age/10?page=0&size=20
+     */
+    @GetMapping("/members/slice/age/{age}")
+    public SliceResponse<MemberDto> findMemberSliceByAge(@PathVariable("age") int age, Pageable pageable) {
+        return new SliceResponse<>(memberRepository.findMemberDtoSliceByAge(age, pageable));
+    }
+
+    /**
+     * 페이징 모드 선택
+     * - COUNT: 매 요청마다 count 쿼리 실행
+     * - CACHED_COUNT: 나이별 count 결과를 캐시해서 재사용(app.paging.count-cache-ttl), 회원 변경 시 무효화
+     * - HAS_MORE: size + 1건을 조회해서 다음 페이지 존재 여부만 응답(count 쿼리 X)
+     * ex: /members/age/10?page=0&size=3&mode=CACHED_COUNT
+     */
+    @GetMapping("/members/age/{age}")
+    public Slice<MemberDto> findMembersByAge(@PathVariable("age") int age, Pageable pageable,
+                                            @RequestParam(value = "mode", defaultValue = "COUNT") PagingMode mode) {
+        return memberRepository.findPageByAge(age, pageable, mode).map(MemberDto::new);
+    }
+
+    /**
+     * 키셋 페이징 - 커서 기반
+     * - page 파라미터 대신 이전 응답의 next 커서를 after로 전달(size, sort는 기존 페이징과 동일하게 사용)
+     * - 페이지가 깊어져도 offset 만큼 건너뛰는 row를 읽지 않음
+     * ex: /members/scroll?size=3&sort=username,desc -> /members/scroll?size=3&sort=username,desc&after={next}
+     */
+    @GetMapping("/members/scroll")
+    public MemberWindowDto findMembersScroll(Pageable pageable,
+                                             @RequestParam(value = "age", required = false) Integer age,
+                                             @RequestParam(value = "after", required = false) String after) {
+        Sort sort = pageable.getSort();
+        ScrollPosition position = after == null ? ScrollPosition.keyset() : KeysetCursor.decode(after, sort);
+        Limit limit = Limit.of(pageable.getPageSize());
+
+        Window<Member> window = age == null
+                ? memberRepository.findWindowBy(position, sort, limit)
+                : memberRepository.findWindowByAge(age, position, sort, limit);
+
+        String next = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            next = KeysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
         }
+        return new MemberWindowDto(window.getContent().stream().map(MemberDto::new).toList(), next);
+    }
+
+    /**
+     * 회원 요약 - username이 같은 회원, 전체 회원 수, 나이가 같은 회원 페이지를 동시에 조회
+     * - 각 조회는 repositoryTaskExecutor에서 별도 트랜잭션으로 실행되므로 전체 응답 시간은 가장 느린 조회 시간에 가까움
+     * ex: /members/summary?username=member1&age=10&page=0&size=10
+     */
+    @GetMapping("/members/summary")
+    public MemberSummaryDto findMemberSummary(@RequestParam("username") String username,
+                                              @RequestParam("age") int age, Pageable pageable) {
+        CompletableFuture<List<Member>> sameUsername = memberRepository.findByUsernameAsync(username);
+        CompletableFuture<Long> totalCount = memberRepository.countAsync();
+        CompletableFuture<Page<Member>> sameAge = memberRepository.findByAgeAsync(age, pageable);
+        CompletableFuture.allOf(sameUsername, totalCount, sameAge).join();
+
+        return new MemberSummaryDto(
+                sameUsername.join().stream().map(MemberDto::new).toList(),
+                totalCount.join(),
+                sameAge.join().map(MemberDto::new));
     }
 }
@@ -0,0 +1,57 @@
+package com.example.data_jpa.controller;
+
+import com.example.data_jpa.dto.MemberDto;
+import com.example.data_jpa.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 내보내기
+ * - findAll()처럼 전체 회원을 List로 만든 다음 응답하면 데이터가 많을수록 메모리 사용량이 커짐(OOM)
+ * - DB 커서로 한 건씩 읽어서 MemberDto로 변환 후 바로 응답에 쓰고, 엔티티는 영속성 컨텍스트에서 분리
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberExportController {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON(한 줄에 JSON 하나) 형식으로 전체 회원 내보내기
+     * ex: curl /members/export > members.ndjson
+     */
+    @GetMapping("/members/export")
+    public void exportMembers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ObjectWriter writer = objectMapper.writerFor(MemberDto.class);
+        OutputStream out = response.getOutputStream();
+        try {
+            memberRepository.forEachMember(FETCH_SIZE, member -> {
+                try {
+                    out.write(writer.writeValueAsBytes(new MemberDto(member)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+}
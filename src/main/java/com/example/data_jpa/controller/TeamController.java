@@ -0,0 +1,27 @@
+package com.example.data_jpa.controller;
+
+import com.example.data_jpa.dto.TeamDto;
+import com.example.data_jpa.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TeamController {
+
+    private final TeamRepository teamRepository;
+
+    /**
+     * 팀 + 소속 회원 목록
+     * - 컬렉션 페치 조인은 페이징이 불가능하므로(메모리에서 페이징) 팀만 페이징 조회 후 회원은 배치 페치로 초기화
+     * - 쿼리 수: 팀 1 + count 1 + 회원 ceil(팀 수 / app.fetch.batch-size)
+     * ex: /teams?page=0&size=20
+     */
+    @GetMapping("/teams")
+    public Page<TeamDto> findTeams(Pageable pageable) {
+        return teamRepository.findAll(pageable).map(TeamDto::new);
+    }
+}
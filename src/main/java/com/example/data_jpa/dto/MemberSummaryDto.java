@@ -0,0 +1,23 @@
+package com.example.data_jpa.dto;
+
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 회원 요약 응답(서로 관계없는 조회 3개를 조합)
+ */
+@Data
+public class MemberSummaryDto {
+
+    private List<MemberDto> sameUsername;
+    private long totalCount;
+    private Page<MemberDto> sameAge;
+
+    public MemberSummaryDto(List<MemberDto> sameUsername, long totalCount, Page<MemberDto> sameAge) {
+        this.sameUsername = sameUsername;
+        this.totalCount = totalCount;
+        this.sameAge = sameAge;
+    }
+}
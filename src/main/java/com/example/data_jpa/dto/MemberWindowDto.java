@@ -0,0 +1,23 @@
+package com.example.data_jpa.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 키셋 페이징 응답
+ * - next: 다음 페이지 요청 시 after 파라미터로 전달할 커서(다음 페이지가 없으면 null)
+ */
+@Data
+public class MemberWindowDto {
+
+    private List<MemberDto> content;
+    private String next;
+    private boolean hasNext;
+
+    public MemberWindowDto(List<MemberDto> content, String next) {
+        this.content = content;
+        this.next = next;
+        this.hasNext = next != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.data_jpa.dto;
+
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Slice 응답(무한 스크롤용)
+ * - 전체 개수/전체 페이지 수 없이 현재 페이지와 다음 페이지 존재 여부만 응답
+ * - 다음 페이지 요청: page + 1
+ */
+@Data
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public SliceResponse(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+    }
+}
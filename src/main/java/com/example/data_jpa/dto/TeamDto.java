@@ -0,0 +1,23 @@
+package com.example.data_jpa.dto;
+
+import com.example.data_jpa.entity.Team;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TeamDto {
+
+    private Long id;
+    private String name;
+    private List<MemberDto> members;
+
+    // team.getMembers()는 지연 로딩(배치 페치로 여러 팀의 회원을 한 번에 조회)
+    public TeamDto(Team team) {
+        this.id = team.getId();
+        this.name = team.getName();
+        this.members = team.getMembers().stream()
+                .map(member -> new MemberDto(member.getId(), member.getUsername(), team.getName()))
+                .toList();
+    }
+}
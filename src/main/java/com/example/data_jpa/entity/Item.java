@@ -1,9 +1,11 @@
 package com.example.data_jpa.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.domain.Persistable;
@@ -22,15 +24,27 @@ import java.time.LocalDateTime;
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Item implements Persistable<Long> {
 
     @Id
     private Long id;
+    private String name;
 
     @CreatedDate
+    @Column(updatable = false) // 대량 upsert(ItemRepository.upsertAll) 시 기존 row의 생성일은 유지
     private LocalDateTime createdDate;
 
+    public Item(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public void changeName(String name) {
+        this.name = name;
+    }
+
     @Override
     public Long getId() {
         return id;
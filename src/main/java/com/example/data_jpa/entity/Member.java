@@ -2,8 +2,19 @@ package com.example.data_jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member") // 2차 캐시
+// 인덱스(ddl-auto로 스키마 생성 시 함께 생성) - 조회 조건: username(+ age), age(페이징, 벌크 수정), team_id(팀별 회원)
+// 새 조회 메서드가 전체 테이블을 읽지 않는지는 MemberQueryPlanTest에서 검증
+@Table(indexes = {
+        @Index(name = "idx_member_username_age", columnList = "username, age"),
+        @Index(name = "idx_member_age", columnList = "age"),
+        @Index(name = "idx_member_team_id", columnList = "team_id")
+})
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "username", "age"})
@@ -41,8 +52,16 @@ public class Member extends JpaBaseEntity {
         }
     }
 
+    /**
+     * 연관관계 편의 메서드 - 팀의 members 컬렉션을 초기화(전체 회원 조회)하지 않음
+     * - 이전 팀: members가 이미 초기화된 경우에만 제거(remove()는 컬렉션을 초기화하므로)
+     * - 새 팀: Team.addMember() 참고
+     */
     public void changeTeam(Team team) {
+        if (this.team != null && this.team != team && Hibernate.isInitialized(this.team.getMembers())) {
+            this.team.getMembers().remove(this);
+        }
         this.team = team;
-        team.getMembers().add(this);
+        team.addMember(this);
     }
 }
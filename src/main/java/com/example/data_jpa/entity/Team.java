@@ -2,11 +2,15 @@ package com.example.data_jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team") // 2차 캐시
+@Table(indexes = @Index(name = "idx_team_name", columnList = "name")) // 팀 이름 조회(findByNameStartingWith - 접두사 like)
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "name"})
@@ -18,10 +22,23 @@ public class Team {
     private Long id;
     private String name;
 
+    // 지연 로딩 - 여러 팀의 members는 app.fetch.batch-size 단위로 한 번에 초기화(application.yml)
+    // 회원 추가는 컬렉션을 초기화하지 않음(addMember)
     @OneToMany(mappedBy = "team")
     private List<Member> members = new ArrayList<>();
 
     public Team(String name) {
         this.name = name;
     }
+
+    /**
+     * members에 회원 추가(Member.changeTeam에서 호출)
+     * - members는 연관관계의 주인이 아니고(mappedBy) 순서 컬럼이 없는 List(bag)이므로,
+     *   초기화되지 않은 상태에서 add()를 호출하면 하이버네이트가 컬렉션을 조회하지 않고 추가 작업을 큐에 쌓아둠
+     * - 나중에 컬렉션이 초기화되면 조회 결과에 큐에 쌓인 회원이 반영됨
+     * - Set으로 바꾸거나 @OrderColumn을 추가하면 add() 시 컬렉션 조회가 발생하므로 주의
+     */
+    void addMember(Member member) {
+        members.add(member);
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.data_jpa.monitoring;
+
+import com.example.data_jpa.config.HibernateListenerConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 하이버네이트 확장 등록
+ * - EntityManagerFactory 생성 시점에 등록해야 하므로 여기에 등록되는 빈은 EntityManagerFactory에 의존하면 안 됨(순환 참조)
+ */
+@Configuration
+public class MonitoringConfig {
+
+    /**
+     * 실행되는 모든 SQL을 StatementListener 빈에 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementListenerCustomizer(ObjectProvider<StatementListener> listeners) {
+        return properties -> {
+            List<StatementListener> resolved = listeners.orderedStream().toList();
+            StatementInspector inspector = sql -> {
+                for (StatementListener listener : resolved) {
+                    listener.onStatement(sql);
+                }
+                return sql;
+            };
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        };
+    }
+
+    /**
+     * 엔티티 로딩 수 집계(PostLoad 이벤트)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer postLoadListenerCustomizer(RepositoryInvocationCounter counter) {
+        return HibernateListenerConfig.listenerCustomizer(counter, EventType.POST_LOAD);
+    }
+
+    /**
+     * 샘플링 SQL 추적(app.sql-trace.enabled) - dataSource를 SqlTraceDataSource로 감쌈
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sql-trace", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor sqlTracePostProcessor(ObjectProvider<SqlTracer> tracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new SqlTraceDataSource(dataSource, tracer.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
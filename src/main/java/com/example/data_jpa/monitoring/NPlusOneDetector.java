@@ -0,0 +1,126 @@
+package com.example.data_jpa.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * N+1 쿼리 감지
+ * - 한 요청(NPlusOneRequestFilter) 또는 트랜잭션 동안 지연 로딩(프록시, 컬렉션 초기화)으로 실행된 select를 SQL별로 셈
+ * - 같은 SQL이 threshold를 넘게 실행되면 호출 위치(애플리케이션 코드)와 함께 경고 로그(log) 또는 예외(fail)
+ * - 요청, 트랜잭션 밖에서 실행된 SQL은 세지 않음
+ * - SQL마다 스택을 확인하므로 운영 환경에서는 off 권장
+ */
+@Slf4j
+@Component
+public class NPlusOneDetector implements StatementListener {
+
+    public enum Mode {
+        OFF, LOG, FAIL
+    }
+
+    private static final String BASE_PACKAGE = "com.example.data_jpa.";
+    private static final String MONITORING_PACKAGE = BASE_PACKAGE + "monitoring.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ThreadLocal<Map<String, Integer>> scope = new ThreadLocal<>(); // SQL별 지연 로딩 실행 횟수
+    private final Mode mode;
+    private final int threshold;
+
+    public NPlusOneDetector(@Value("${app.monitoring.n-plus-one.mode:log}") Mode mode,
+                            @Value("${app.monitoring.n-plus-one.threshold:5}") int threshold) {
+        this.mode = mode;
+        this.threshold = threshold;
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * 요청 단위로 감지(요청 안의 여러 트랜잭션을 합쳐서 셈)
+     */
+    public void beginRequest() {
+        scope.set(new HashMap<>());
+    }
+
+    public void endRequest() {
+        scope.remove();
+    }
+
+    @Override
+    public void onStatement(String sql) {
+        if (mode == Mode.OFF || !sql.regionMatches(true, 0, "select", 0, 6)) {
+            return;
+        }
+        Map<String, Integer> counts = currentScope();
+        if (counts == null) {
+            return;
+        }
+        Optional<String> callSite = lazyLoadCallSite();
+        if (callSite.isEmpty()) {
+            return;
+        }
+
+        int count = counts.merge(sql, 1, Integer::sum);
+        if (count == threshold + 1) { // 같은 SQL은 처음 넘었을 때 한 번만 알림
+            if (mode == Mode.FAIL) {
+                throw new NPlusOneQueryException(sql, count, callSite.get());
+            }
+            log.atWarn()
+                    .addKeyValue("count", count)
+                    .addKeyValue("callSite", callSite.get())
+                    .addKeyValue("sql", sql)
+                    .log("N+1 의심: 같은 지연 로딩 SQL이 {}회 실행됨({})", count, callSite.get());
+        }
+    }
+
+    private Map<String, Integer> currentScope() {
+        Map<String, Integer> current = scope.get();
+        if (current != null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return current;
+        }
+        Map<String, Integer> transaction = new HashMap<>();
+        scope.set(transaction);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (scope.get() == transaction) {
+                    scope.remove();
+                }
+            }
+        });
+        return transaction;
+    }
+
+    /**
+     * 지연 로딩(하이버네이트 프록시 또는 컬렉션 초기화)으로 실행된 SQL이면 지연 로딩을 일으킨 애플리케이션 코드 위치
+     */
+    private static Optional<String> lazyLoadCallSite() {
+        return STACK_WALKER.walk(frames -> {
+            boolean lazy = false;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith("org.hibernate.proxy.") || className.startsWith("org.hibernate.collection.")) {
+                    lazy = true;
+                } else if (lazy && isApplicationFrame(className)) {
+                    return Optional.of(frame.toStackTraceElement().toString());
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith(BASE_PACKAGE)
+                && !className.startsWith(MONITORING_PACKAGE)
+                && !className.contains("$HibernateProxy")
+                && !className.contains("$$");
+    }
+}
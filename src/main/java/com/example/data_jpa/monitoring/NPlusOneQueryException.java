@@ -0,0 +1,21 @@
+package com.example.data_jpa.monitoring;
+
+import lombok.Getter;
+
+/**
+ * 같은 지연 로딩 SQL이 한 요청(또는 트랜잭션)에서 허용 횟수를 넘게 실행됨(app.monitoring.n-plus-one.mode: fail)
+ */
+@Getter
+public class NPlusOneQueryException extends RuntimeException {
+
+    private final String sql;
+    private final int count;
+    private final String callSite;
+
+    public NPlusOneQueryException(String sql, int count, String callSite) {
+        super("N+1 의심: 같은 지연 로딩 SQL이 " + count + "회 실행됨, 호출 위치: " + callSite + ", sql: " + sql);
+        this.sql = sql;
+        this.count = count;
+        this.callSite = callSite;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.data_jpa.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 N+1 감지 범위(OSIV로 컨트롤러, DTO 변환 중에 일어나는 지연 로딩 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class NPlusOneRequestFilter extends OncePerRequestFilter {
+
+    private final NPlusOneDetector detector;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !detector.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        detector.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            detector.endRequest();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.data_jpa.monitoring;
+
+/**
+ * 현재 스레드에서 실행 중인 리포지토리 메서드 호출과, 호출 동안 실행된 SQL/로딩된 엔티티 수
+ * - 리포지토리 메서드 안에서 다른 리포지토리 메서드를 호출하면 안쪽 호출의 수치가 바깥 호출에도 더해짐
+ * - 다른 스레드에서 실행된 SQL(ex: InClauseMode.PARALLEL)은 포함되지 않음
+ */
+public final class RepositoryInvocation {
+
+    private static final ThreadLocal<RepositoryInvocation> CURRENT = new ThreadLocal<>();
+
+    private final RepositoryInvocation parent;
+    private long statements;
+    private long entitiesLoaded;
+
+    private RepositoryInvocation(RepositoryInvocation parent) {
+        this.parent = parent;
+    }
+
+    public static RepositoryInvocation begin() {
+        RepositoryInvocation invocation = new RepositoryInvocation(CURRENT.get());
+        CURRENT.set(invocation);
+        return invocation;
+    }
+
+    public void end() {
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        parent.statements += statements;
+        parent.entitiesLoaded += entitiesLoaded;
+        CURRENT.set(parent);
+    }
+
+    static void statementExecuted() {
+        RepositoryInvocation invocation = CURRENT.get();
+        if (invocation != null) {
+            invocation.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RepositoryInvocation invocation = CURRENT.get();
+        if (invocation != null) {
+            invocation.entitiesLoaded++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.data_jpa.monitoring;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리포지토리 메서드 호출 동안 실행된 SQL 수와 로딩된 엔티티 수 집계(RepositoryInvocation)
+ * - SQL: StatementInspector(MonitoringConfig)
+ * - 엔티티: 하이버네이트 PostLoad 이벤트(2차 캐시에서 로딩된 엔티티 포함, MonitoringConfig에서 등록)
+ */
+@Component
+public class RepositoryInvocationCounter implements StatementListener, PostLoadEventListener {
+
+    @Override
+    public void onStatement(String sql) {
+        RepositoryInvocation.statementExecuted();
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RepositoryInvocation.entityLoaded();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.data_jpa.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리포지토리 메서드별 지표(Micrometer)
+ * - 대상: 스프링 데이터 JPA 리포지토리(MemberRepository 등), @Repository 클래스(MemberJpaRepository, TeamJpaRepository)
+ * - repository.invocations: 실행 시간(히스토그램)
+ * - repository.rows: 반환한 결과 수(컬렉션, Slice/Page, Window, Optional, 단건)
+ * - repository.statements: 실행한 SQL 수
+ * - repository.entities.loaded: 로딩한 엔티티 수
+ * - 실행 시간이 slow-threshold 이상이면 구조화 로그(key-value) + SlowRepositoryCallEvent 발행
+ */
+@Slf4j
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    static final String INVOCATIONS = "repository.invocations";
+    static final String ROWS = "repository.rows";
+    static final String STATEMENTS = "repository.statements";
+    static final String ENTITIES_LOADED = "repository.entities.loaded";
+
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long slowThresholdNanos;
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.monitoring.repository.slow-threshold:500ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))" +
+            " || within(@org.springframework.stereotype.Repository *)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        // 공통 메서드(save, findById 등)는 리포지토리마다 같은 Method이므로 프록시 클래스와 함께 구분
+        Meters meters = this.meters.computeIfAbsent(new MeterKey(joinPoint.getThis().getClass(), method),
+                key -> new Meters(repositoryName(joinPoint), method.getName()));
+
+        RepositoryInvocation invocation = RepositoryInvocation.begin();
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            invocation.end();
+            long rows = rows(result);
+            meters.record(elapsed, rows, invocation, failure);
+            if (elapsed >= slowThresholdNanos) {
+                slowCall(meters, elapsed, rows, invocation, failure);
+            }
+        }
+    }
+
+    private void slowCall(Meters meters, long elapsed, long rows, RepositoryInvocation invocation, Throwable failure) {
+        SlowRepositoryCallEvent event = new SlowRepositoryCallEvent(meters.repository, meters.method, Duration.ofNanos(elapsed),
+                rows, invocation.getStatements(), invocation.getEntitiesLoaded(),
+                failure == null ? null : failure.getClass().getSimpleName());
+        log.atWarn()
+                .addKeyValue("repository", event.repository())
+                .addKeyValue("method", event.method())
+                .addKeyValue("elapsedMs", event.elapsed().toMillis())
+                .addKeyValue("rows", event.rows())
+                .addKeyValue("statements", event.statements())
+                .addKeyValue("entitiesLoaded", event.entitiesLoaded())
+                .addKeyValue("exception", event.exception())
+                .log("slow repository call {}.{} ({}ms)", event.repository(), event.method(), event.elapsed().toMillis());
+        eventPublisher.publishEvent(event);
+    }
+
+    // 스프링 데이터 JPA 리포지토리는 프록시가 구현한 인터페이스 이름(ex: MemberRepository), @Repository 클래스는 클래스 이름
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        return Arrays.stream(joinPoint.getThis().getClass().getInterfaces())
+                .filter(Repository.class::isAssignableFrom)
+                .filter(type -> !type.getName().startsWith("org.springframework."))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElseGet(() -> AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName());
+    }
+
+    private static long rows(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Window<?> window) {
+            return window.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private record MeterKey(Class<?> type, Method method) {
+    }
+
+    private final class Meters {
+
+        private final String repository;
+        private final String method;
+        private final Tags tags;
+        private final Timer success;
+        private final DistributionSummary rows;
+        private final DistributionSummary statements;
+        private final DistributionSummary entitiesLoaded;
+
+        private Meters(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+            this.tags = Tags.of("repository", repository, "method", method);
+            this.success = timer("none");
+            this.rows = summary(ROWS);
+            this.statements = summary(STATEMENTS);
+            this.entitiesLoaded = summary(ENTITIES_LOADED);
+        }
+
+        private void record(long elapsed, long rows, RepositoryInvocation invocation, Throwable failure) {
+            Timer timer = failure == null ? success : timer(failure.getClass().getSimpleName());
+            timer.record(Duration.ofNanos(elapsed));
+            this.rows.record(rows);
+            statements.record(invocation.getStatements());
+            entitiesLoaded.record(invocation.getEntitiesLoaded());
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder(INVOCATIONS)
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private DistributionSummary summary(String name) {
+            return DistributionSummary.builder(name)
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+}
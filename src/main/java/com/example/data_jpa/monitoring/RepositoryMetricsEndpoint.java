@@ -0,0 +1,61 @@
+package com.example.data_jpa.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 메서드별 지표 요약(/actuator/repositories)
+ * - 전체 실행 시간이 큰 메서드 순서로 정렬
+ * ex: {"MemberRepository.findByAge": {"count": 10, "totalMs": 35.2, "meanMs": 3.5, "maxMs": 12.1, "rows": 200, "statements": 20, "entitiesLoaded": 200}}
+ */
+@Component
+@Endpoint(id = "repositories")
+@RequiredArgsConstructor
+public class RepositoryMetricsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Map<String, Number>> repositories() {
+        Map<String, Map<String, Number>> result = new LinkedHashMap<>();
+        meterRegistry.find(RepositoryMetricsAspect.INVOCATIONS).timers().stream()
+                .sorted(Comparator.comparingDouble((Timer timer) -> timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+                .forEach(timer -> {
+                    String repository = timer.getId().getTag("repository");
+                    String method = timer.getId().getTag("method");
+                    String exception = timer.getId().getTag("exception");
+                    String key = repository + "." + method + ("none".equals(exception) ? "" : " (" + exception + ")");
+
+                    Map<String, Number> stats = new LinkedHashMap<>();
+                    stats.put("count", timer.count());
+                    stats.put("totalMs", timer.totalTime(TimeUnit.MILLISECONDS));
+                    stats.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+                    stats.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+                    if ("none".equals(exception)) {
+                        stats.put("rows", total(RepositoryMetricsAspect.ROWS, repository, method));
+                        stats.put("statements", total(RepositoryMetricsAspect.STATEMENTS, repository, method));
+                        stats.put("entitiesLoaded", total(RepositoryMetricsAspect.ENTITIES_LOADED, repository, method));
+                    }
+                    result.put(key, stats);
+                });
+        return result;
+    }
+
+    private long total(String name, String repository, String method) {
+        DistributionSummary summary = meterRegistry.find(name)
+                .tag("repository", repository)
+                .tag("method", method)
+                .summary();
+        return summary == null ? 0 : (long) summary.totalAmount();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.data_jpa.monitoring;
+
+import java.time.Duration;
+
+/**
+ * 실행 시간이 app.monitoring.repository.slow-threshold 이상인 리포지토리 메서드 호출
+ * - @EventListener로 수신(알림, 감사 로그 등)
+ */
+public record SlowRepositoryCallEvent(String repository, String method, Duration elapsed,
+                                      long rows, long statements, long entitiesLoaded, String exception) {
+}
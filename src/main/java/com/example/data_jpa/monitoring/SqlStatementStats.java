@@ -0,0 +1,78 @@
+package com.example.data_jpa.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 정규화된 SQL 하나의 실행 통계(샘플링된 실행만 기록, 락 없음)
+ * - 실행 시간 히스토그램: 2의 제곱 구간을 4개로 나눈 버킷(오차 최대 25%), p99 계산에 사용
+ */
+public final class SqlStatementStats {
+
+    private static final int BUCKETS = 256;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        histogram.incrementAndGet(bucket(nanos));
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @param percentile 0 ~ 1(ex: 0.99)
+     * @return 해당 백분위가 속한 버킷의 상한(나노초)
+     */
+    public long percentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0) {
+                return Math.min(upperBound(i), maxNanos());
+            }
+        }
+        return 0;
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < 4) {
+            return 0;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) ((nanos >>> (msb - 2)) & 3);
+        return msb * 4 + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket == 0) {
+            return 4;
+        }
+        int msb = bucket / 4;
+        int sub = bucket % 4;
+        return (4L + sub + 1) << (msb - 2);
+    }
+}
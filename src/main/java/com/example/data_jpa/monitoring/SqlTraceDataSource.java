@@ -0,0 +1,123 @@
+package com.example.data_jpa.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL 실행 시간을 SqlTracer에 기록하는 DataSource
+ * - 샘플링되지 않은 실행은 시간을 재지 않고 그대로 호출
+ */
+public class SqlTraceDataSource extends DelegatingDataSource {
+
+    private final SqlTracer tracer;
+
+    public SqlTraceDataSource(DataSource targetDataSource, SqlTracer tracer) {
+        super(targetDataSource);
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return statement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return statement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return statement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * execute* 호출 시간 기록
+     * - PreparedStatement/CallableStatement: 준비한 SQL(배치 실행도 한 번으로 기록)
+     * - Statement: execute(sql)의 SQL, 배치(addBatch(sql) + executeBatch())는 배치 실행 시간을 건수로 나눠서 SQL마다 기록
+     */
+    private <T extends Statement> T statement(Class<T> type, T statement, String preparedSql) {
+        List<String> batch = preparedSql == null ? new ArrayList<>() : null;
+        return proxy(type, statement, (method, args) -> {
+            String name = method.getName();
+            boolean executeBatch = name.startsWith("execute") && name.endsWith("Batch");
+            if (batch != null && name.equals("addBatch")) {
+                batch.add((String) args[0]);
+            } else if (batch != null && name.equals("clearBatch")) {
+                batch.clear();
+            }
+
+            if (!name.startsWith("execute") || !tracer.sample()) {
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    if (batch != null && executeBatch) {
+                        batch.clear();
+                    }
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                if (batch != null && executeBatch) {
+                    for (String sql : batch) {
+                        tracer.record(sql, nanos / batch.size());
+                    }
+                    batch.clear();
+                } else {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    if (sql != null) {
+                        tracer.record(sql, nanos);
+                    }
+                }
+            }
+        });
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlTraceDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("unwrap") && ((Class<?>) args[0]).isInstance(target)) {
+                        return target;
+                    }
+                    return handler.handle(method, args);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
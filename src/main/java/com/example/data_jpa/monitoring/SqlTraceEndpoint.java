@@ -0,0 +1,33 @@
+package com.example.data_jpa.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 샘플링 SQL 추적 결과(/actuator/sqltrace?limit=20), DELETE 요청 시 초기화
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sql-trace", name = "enabled", havingValue = "true")
+@Endpoint(id = "sqltrace")
+@RequiredArgsConstructor
+public class SqlTraceEndpoint {
+
+    private final SqlTracer tracer;
+
+    @ReadOperation
+    public Map<String, Map<String, Number>> statements(@Nullable Integer limit) {
+        return tracer.snapshot(limit == null ? 20 : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        tracer.reset();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.data_jpa.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 샘플링 SQL 추적(p6spy 대신 운영 환경에서 사용, app.sql-trace)
+ * - SQL 실행 중 sample-rate 비율만 실행 시간을 재서 정규화된 SQL별로 집계(건마다 로그를 남기지 않음)
+ * - 조회: /actuator/sqltrace, dump-interval마다 실행 시간 합계 상위 SQL을 로그로 출력
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.sql-trace", name = "enabled", havingValue = "true")
+public class SqlTracer implements DisposableBean {
+
+    private static final String OTHER = "(other)";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w)])-?\\b\\d+(?:\\.\\d+)?\\b"); // 음수 포함, 뺄셈(age-1)의 부호는 제외
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final double sampleRate;
+    private final int maxStatements;
+    private final int dumpTop;
+    private final Map<String, SqlStatementStats> statsBySql = new ConcurrentHashMap<>(); // 원본 SQL -> 통계(정규화 비용을 한 번만 부담)
+    private final Map<String, SqlStatementStats> statsByNormalized = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService dumper;
+
+    public SqlTracer(@Value("${app.sql-trace.sample-rate:0.01}") double sampleRate,
+                     @Value("${app.sql-trace.max-statements:1000}") int maxStatements,
+                     @Value("${app.sql-trace.dump-interval:0s}") Duration dumpInterval,
+                     @Value("${app.sql-trace.dump-top:10}") int dumpTop) {
+        this.sampleRate = sampleRate;
+        this.maxStatements = maxStatements;
+        this.dumpTop = dumpTop;
+        if (dumpInterval.isZero()) {
+            this.dumper = null;
+        } else {
+            this.dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "sql-trace-dump");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = dumpInterval.toMillis();
+            dumper.scheduleAtFixedRate(this::dump, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean sample() {
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public void record(String sql, long nanos) {
+        SqlStatementStats stats = statsBySql.get(sql);
+        if (stats == null) {
+            stats = statsFor(sql);
+        }
+        stats.record(nanos);
+    }
+
+    private SqlStatementStats statsFor(String sql) {
+        String normalized = normalize(sql);
+        SqlStatementStats stats = statsByNormalized.get(normalized);
+        if (stats == null) {
+            // 정규화해도 새로운 SQL이 계속 들어오면 메모리가 늘어나지 않도록 정규화된 SQL 개수 제한
+            String key = statsByNormalized.size() >= maxStatements ? OTHER : normalized;
+            stats = statsByNormalized.computeIfAbsent(key, k -> new SqlStatementStats());
+        }
+        // 원본 SQL 캐시도 같은 개수까지만 보관(넘으면 매번 정규화)
+        if (statsBySql.size() < maxStatements) {
+            statsBySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 실행 시간 합계 순 상위 limit개
+     * - count, totalMs: 샘플링된 값을 sample-rate로 나눈 추정치
+     */
+    public Map<String, Map<String, Number>> snapshot(int limit) {
+        Map<String, Map<String, Number>> result = new LinkedHashMap<>();
+        List<Map.Entry<String, SqlStatementStats>> entries = statsByNormalized.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, SqlStatementStats> entry) -> entry.getValue().totalNanos()).reversed())
+                .limit(limit)
+                .toList();
+        double scale = sampleRate >= 1 ? 1 : 1 / sampleRate;
+        for (Map.Entry<String, SqlStatementStats> entry : entries) {
+            SqlStatementStats stats = entry.getValue();
+            Map<String, Number> values = new LinkedHashMap<>();
+            values.put("sampled", stats.count());
+            values.put("count", Math.round(stats.count() * scale));
+            values.put("totalMs", stats.totalNanos() * scale / 1_000_000);
+            values.put("meanMs", stats.count() == 0 ? 0 : stats.totalNanos() / 1_000_000.0 / stats.count());
+            values.put("p99Ms", stats.percentileNanos(0.99) / 1_000_000.0);
+            values.put("maxMs", stats.maxNanos() / 1_000_000.0);
+            result.put(entry.getKey(), values);
+        }
+        return result;
+    }
+
+    public void reset() {
+        statsBySql.clear();
+        statsByNormalized.clear();
+    }
+
+    public void dump() {
+        snapshot(dumpTop).forEach((sql, values) -> log.atInfo()
+                .addKeyValue("sql", sql)
+                .addKeyValue("count", values.get("count"))
+                .addKeyValue("totalMs", values.get("totalMs"))
+                .addKeyValue("p99Ms", values.get("p99Ms"))
+                .log("sql trace {} {}", values, sql));
+    }
+
+    @Override
+    public void destroy() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.data_jpa.monitoring;
+
+/**
+ * 하이버네이트가 SQL을 실행하기 전에 호출(StatementInspector)
+ * - 스프링 빈으로 등록하면 MonitoringConfig에서 모두 등록
+ */
+public interface StatementListener {
+
+    void onStatement(String sql);
+}
@@ -0,0 +1,40 @@
+package com.example.data_jpa.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+/**
+ * 대량 등록 공통 처리(saveAllBatched)
+ * - insert를 JDBC 배치(batchSize 단위)로 묶어서 전송하고, batchSize 마다 flush + clear로 영속성 컨텍스트를 비워서 메모리 사용량을 일정하게 유지
+ * - clear 이후에는 기존에 영속 상태였던 엔티티도 준영속 상태가 되므로 호출 이후 지연 로딩 등에 주의
+ * - 트랜잭션 안에서 호출해야 함
+ */
+final class BatchInserts {
+
+    private BatchInserts() {
+    }
+
+    static <T> void persistAll(EntityManager em, Iterable<T> entities, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+
+        Session session = em.unwrap(Session.class);
+        Integer defaultBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            int count = 0;
+            for (T entity : entities) {
+                em.persist(entity);
+                if (++count % batchSize == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.flush();
+            em.clear();
+        } finally {
+            session.setJdbcBatchSize(defaultBatchSize);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.data_jpa.repository;
+
+/**
+ * 대량 IN 절 조회 방식
+ * - SINGLE: 전체 컬렉션을 하나의 IN 절로 바인딩
+ * - CHUNKED: 고정 크기(app.in-clause.chunk-size)로 나눠서 순서대로 조회 후 결과 병합
+ * - PARALLEL: CHUNKED와 같이 나눈 다음 각 청크를 별도 스레드(별도 트랜잭션)에서 동시에 조회
+ * - TEMP_TABLE: 임시 테이블에 값을 배치 insert 후 조인(값이 매우 많을 때) - DDL/insert가 필요하므로 항상 읽기/쓰기 트랜잭션(primary)에서 실행
+ */
+public enum InClauseMode {
+    SINGLE,
+    CHUNKED,
+    PARALLEL,
+    TEMP_TABLE
+}
@@ -0,0 +1,7 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Item;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ItemRepository extends JpaRepository<Item, Long>, PersistableUpsertRepository<Item> {
+}
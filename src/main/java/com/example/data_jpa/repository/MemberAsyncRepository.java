@@ -0,0 +1,22 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 조회 - 서로 관계없는 여러 조회를 동시에 실행해서 응답 하나로 조합할 때 사용
+ * - repositoryTaskExecutor(가상 스레드 또는 커넥션 풀 크기의 스레드 풀)에서 작업마다 별도의 읽기 전용 트랜잭션, 영속성 컨텍스트로 실행
+ * - 반환된 엔티티는 준영속 상태(지연 로딩 불가), 호출한 트랜잭션의 커밋 전 변경 내용은 보이지 않음
+ */
+public interface MemberAsyncRepository {
+
+    CompletableFuture<List<Member>> findByUsernameAsync(String username);
+
+    CompletableFuture<Long> countAsync();
+
+    CompletableFuture<Page<Member>> findByAgeAsync(int age, Pageable pageable);
+}
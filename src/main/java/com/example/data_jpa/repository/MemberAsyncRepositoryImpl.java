@@ -0,0 +1,52 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class MemberAsyncRepositoryImpl implements MemberAsyncRepository {
+
+    // MemberRepository가 이 클래스를 포함하므로 생성 시점에 주입받을 수 없음(순환 참조) -> 실행 시점에 조회
+    private final ObjectProvider<MemberRepository> memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AsyncTaskExecutor taskExecutor;
+
+    public MemberAsyncRepositoryImpl(ObjectProvider<MemberRepository> memberRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Qualifier("repositoryTaskExecutor") AsyncTaskExecutor taskExecutor) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public CompletableFuture<List<Member>> findByUsernameAsync(String username) {
+        return async(repository -> repository.findListByUsername(username));
+    }
+
+    @Override
+    public CompletableFuture<Long> countAsync() {
+        return async(MemberRepository::count);
+    }
+
+    @Override
+    public CompletableFuture<Page<Member>> findByAgeAsync(int age, Pageable pageable) {
+        return async(repository -> repository.findByAge(age, pageable));
+    }
+
+    // 작업 스레드에서 트랜잭션을 시작해야 해당 스레드에 새 EntityManager가 바인딩되고, 작업이 끝나면 닫힘
+    private <T> CompletableFuture<T> async(Function<MemberRepository, T> query) {
+        return CompletableFuture.supplyAsync(
+                () -> readOnlyTransaction.execute(status -> query.apply(memberRepository.getObject())), taskExecutor);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 벌크성 수정 쿼리 후처리
+ * - 벌크 연산은 영속성 컨텍스트와 엔티티 리스너를 거치지 않고 DB에 직접 반영되므로, 회원 데이터에 의존하는 캐시를 여기서 무효화
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MemberBulkUpdateAspect {
+
+    private final MemberCountCache memberCountCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @AfterReturning("execution(* com.example.data_jpa.repository.MemberRepository*.bulkAgePlus*(..))" +
+            " || execution(* com.example.data_jpa.repository.MemberJpaRepository.bulkAgePlus*(..))")
+    public void afterBulkUpdate() {
+        memberCountCache.invalidateAll();
+        // JPQL 벌크 연산은 하이버네이트가 해당 엔티티의 2차 캐시 영역을 비워주지만, 네이티브 쿼리로 바뀌어도 캐시가 어긋나지 않도록 명시적으로 제거
+        entityManagerFactory.getCache().evict(Member.class);
+    }
+}
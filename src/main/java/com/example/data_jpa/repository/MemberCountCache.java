@@ -0,0 +1,80 @@
+package com.example.data_jpa.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원 count 쿼리 결과 캐시
+ * - 키: count 쿼리 + 파라미터(ex: findByAge의 age별로 따로 캐시)
+ * - app.paging.count-cache-ttl 동안 유지, 최대 app.paging.count-cache-size개(키에 요청 값이 들어가므로 크기 제한)
+ * - 회원 등록/수정/삭제 및 벌크 수정 시 전체 무효화
+ */
+@Component
+public class MemberCountCache {
+
+    private final Cache<List<Object>, Long> counts;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 트랜잭션이 끝나면(커밋/롤백 모두) 한 번 더 무효화
+     * - 커밋 전: 다른 트랜잭션이 이전 값을 다시 캐시할 수 있음
+     * - 롤백: 쓰기 트랜잭션 안에서 캐시한 커밋되지 않은 값이 남지 않도록 함
+     * - 트랜잭션 동기화는 Set으로 관리되므로 같은 인스턴스는 트랜잭션마다 한 번만 등록됨(대량 등록 시에도 객체가 늘어나지 않음)
+     */
+    private final TransactionSynchronization clearAfterCompletion = new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+            clear();
+        }
+    };
+
+    public MemberCountCache(@Value("${app.paging.count-cache-ttl:30s}") Duration ttl,
+                            @Value("${app.paging.count-cache-size:10000}") long maximumSize) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public long get(String query, Map<String, ?> params, LongSupplier counter) {
+        List<Object> key = List.of(query, params);
+        Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // count 쿼리 실행 도중 무효화된 경우 이전 값이 다시 캐시되지 않도록 세대(generation)를 비교
+        long generationBefore = generation.get();
+        long value = counter.getAsLong();
+        if (generation.get() == generationBefore) {
+            counts.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 전체 무효화
+     * - 트랜잭션 안에서 호출되면 트랜잭션 종료(커밋/롤백) 후에 한 번 더 무효화
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(clearAfterCompletion);
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        counts.invalidateAll();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 엔티티 변경 시 count 캐시 무효화(하이버네이트 이벤트 리스너 - HibernateListenerConfig에서 등록)
+ * - 엔티티에 @EntityListeners로 선언하지 않으므로 entity 패키지가 repository 패키지에 의존하지 않음
+ * - 벌크 수정 쿼리는 이벤트를 거치지 않음 -> MemberBulkUpdateAspect에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCountCacheListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final MemberCountCache memberCountCache;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void invalidate(Object entity) {
+        if (entity instanceof Member) {
+            memberCountCache.invalidateAll();
+        }
+    }
+}
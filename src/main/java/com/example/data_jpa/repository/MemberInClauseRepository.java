@@ -0,0 +1,19 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대량 IN 절 조회(사용자 정의 리포지토리 - 구현: MemberInClauseRepositoryImpl)
+ * - 사용자 정의 인터페이스는 여러 개로 나눠서 구현할 수 있음(구현 클래스 이름은 '인터페이스명 + Impl')
+ */
+public interface MemberInClauseRepository {
+
+    /**
+     * findByNames(Collection)과 같은 결과를 mode에 지정한 방식으로 조회
+     * - 중복된 이름은 한 번만 바인딩
+     */
+    List<Member> findByNames(Collection<String> names, InClauseMode mode);
+}
@@ -0,0 +1,158 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대량 IN 절 조회 구현
+ * - 값이 많으면 SQL이 매우 길어지고, 값 개수마다 다른 SQL이 만들어져서 쿼리 플랜 캐시가 금방 가득 참
+ * - 청크 크기를 2의 제곱수로 고정하고 hibernate.query.in_clause_parameter_padding으로 마지막 청크도 2의 제곱수로 채워서 같은 SQL(플랜)을 재사용
+ */
+@RequiredArgsConstructor
+public class MemberInClauseRepositoryImpl implements MemberInClauseRepository {
+
+    private static final String FIND_BY_NAMES = "select m from Member m where m.username in :names";
+
+    private final EntityManager em;
+    private final PlatformTransactionManager transactionManager;
+    @Qualifier("repositoryTaskExecutor")
+    private final AsyncTaskExecutor taskExecutor;
+    @Value("${app.in-clause.chunk-size:512}")
+    private final int chunkSize;
+
+    /**
+     * 모드별 트랜잭션
+     * - SINGLE, CHUNKED: 읽기 전용(읽기/쓰기 데이터소스 분리 시 replica)
+     * - PARALLEL: 청크마다 별도의 읽기 전용 트랜잭션(findParallel)
+     * - TEMP_TABLE: 임시 테이블 생성/insert가 필요하므로 읽기/쓰기 트랜잭션(primary) - 호출한 트랜잭션이 읽기 전용이면 새 트랜잭션에서 실행
+     */
+    @Override
+    public List<Member> findByNames(Collection<String> names, InClauseMode mode) {
+        List<String> distinctNames = List.copyOf(new LinkedHashSet<>(names));
+        if (distinctNames.isEmpty()) {
+            return List.of();
+        }
+        return switch (mode) {
+            case SINGLE -> readOnlyTransaction().execute(status -> findChunk(distinctNames));
+            case CHUNKED -> readOnlyTransaction().execute(status -> findChunked(distinctNames));
+            case PARALLEL -> findParallel(distinctNames);
+            case TEMP_TABLE -> readWriteTransaction().execute(status -> findWithTempTable(distinctNames));
+        };
+    }
+
+    private List<Member> findChunk(List<String> names) {
+        return em.createQuery(FIND_BY_NAMES, Member.class)
+                .setParameter("names", names)
+                .getResultList();
+    }
+
+    private List<Member> findChunked(List<String> names) {
+        List<Member> result = new ArrayList<>();
+        for (List<String> chunk : chunks(names)) {
+            result.addAll(findChunk(chunk));
+        }
+        return result;
+    }
+
+    /**
+     * 청크별로 별도 스레드, 별도 트랜잭션(영속성 컨텍스트)에서 조회
+     * - 반환된 엔티티는 호출한 쪽의 영속성 컨텍스트에 속하지 않음(준영속)
+     * - 호출한 트랜잭션에서 아직 커밋하지 않은 변경 내용은 보이지 않음
+     */
+    private List<Member> findParallel(List<String> names) {
+        TransactionTemplate transactionTemplate = readOnlyTransaction();
+
+        List<CompletableFuture<List<Member>>> futures = chunks(names).stream()
+                .map(chunk -> CompletableFuture.supplyAsync(
+                        () -> transactionTemplate.execute(status -> findChunk(chunk)), taskExecutor))
+                .toList();
+
+        List<Member> result = new ArrayList<>();
+        for (CompletableFuture<List<Member>> future : futures) {
+            result.addAll(future.join());
+        }
+        return result;
+    }
+
+    /**
+     * 임시 테이블 조인(H2 문법)
+     * - 커넥션(세션) 단위 임시 테이블에 이름을 배치 insert 하고 IN 서브쿼리로 조회하므로 값 개수와 관계없이 SQL이 하나
+     * - TRANSACTIONAL: 임시 테이블 생성 시 현재 트랜잭션이 커밋되지 않도록 함
+     */
+    private List<Member> findWithTempTable(List<String> names) {
+        Session session = em.unwrap(Session.class);
+        session.doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // 이름은 이미 중복을 제거했으므로 기본 키 없이 생성(조회 시 임시 테이블은 전체를 읽음)
+                statement.execute("create local temporary table if not exists member_name_filter" +
+                        " (name varchar(255) not null) transactional");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("insert into member_name_filter (name) values (?)")) {
+                int count = 0;
+                for (String name : names) {
+                    statement.setString(1, name);
+                    statement.addBatch();
+                    if (++count % chunkSize == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        });
+
+        try {
+            @SuppressWarnings("unchecked")
+            // join은 통계가 없으면 member 전체를 읽는 순서로 실행될 수 있으므로 IN 서브쿼리로 username 인덱스(idx_member_username_age)를 사용하도록 함
+            List<Member> result = em.createNativeQuery("select m.* from member m" +
+                            " where m.username in (select f.name from member_name_filter f)", Member.class)
+                    .getResultList();
+            return result;
+        } finally {
+            session.doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("delete from member_name_filter");
+                }
+            });
+        }
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    // 읽기 전용 트랜잭션에 참여하면 replica 커넥션을 그대로 사용하게 되므로 새 트랜잭션으로 primary 커넥션을 얻음
+    private TransactionTemplate readWriteTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+        return transactionTemplate;
+    }
+
+    private List<List<String>> chunks(List<String> names) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < names.size(); from += chunkSize) {
+            chunks.add(names.subList(from, Math.min(from + chunkSize, names.size())));
+        }
+        return chunks;
+    }
+}
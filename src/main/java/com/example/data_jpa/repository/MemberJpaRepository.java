@@ -5,8 +5,10 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -15,12 +17,19 @@ public class MemberJpaRepository {
 
     @PersistenceContext
     private final EntityManager em;
+    private final MemberCountCache memberCountCache;
 
     public Member save(Member member) {
         em.persist(member);
         return member;
     }
 
+    // 대량 등록(JDBC 배치 insert, batchSize 마다 flush + clear - BatchInserts)
+    @Transactional
+    public void saveAllBatched(Iterable<Member> members, int batchSize) {
+        BatchInserts.persistAll(em, members, batchSize);
+    }
+
     public void delete(Member member) {
         em.remove(member);
     }
@@ -65,6 +74,29 @@ public class MemberJpaRepository {
                 .getResultList();
     }
 
+    /**
+     * 키셋 페이징 - findByPage와 같은 정렬(username desc) 기준으로 마지막으로 조회한 (username, id) 다음부터 조회
+     * - username이 중복될 수 있으므로 id를 보조 정렬 키로 사용
+     * - 첫 페이지는 lastUsername, lastId에 null 전달
+     */
+    public List<Member> findByPageAfter(int age, String lastUsername, Long lastId, int limit) {
+        if (lastUsername == null || lastId == null) {
+            return em.createQuery("select m from Member m where m.age = :age order by m.username desc, m.id desc", Member.class)
+                    .setParameter("age", age)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return em.createQuery("select m from Member m" +
+                        " where m.age = :age" +
+                        " and (m.username < :username or (m.username = :username and m.id < :id))" +
+                        " order by m.username desc, m.id desc", Member.class)
+                .setParameter("age", age)
+                .setParameter("username", lastUsername)
+                .setParameter("id", lastId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     public long totalCount(int age) {
         return em.createQuery("select count(m) from Member m where m.age = :age",
                         Long.class)
@@ -72,6 +104,14 @@ public class MemberJpaRepository {
                 .getSingleResult();
     }
 
+    /**
+     * totalCount의 캐시 버전(app.paging.count-cache-ttl 동안 나이별 count 결과를 재사용)
+     */
+    public long cachedTotalCount(int age) {
+        return memberCountCache.get("select count(m) from Member m where m.age = :age",
+                Map.of("age", age), () -> totalCount(age));
+    }
+
     public int bulkAgePlus(int age) {
         return em.createQuery(
                 "update Member m set m.age = m.age + 1 where m.age >= :age")
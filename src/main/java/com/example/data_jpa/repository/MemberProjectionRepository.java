@@ -0,0 +1,15 @@
+package com.example.data_jpa.repository;
+
+import java.util.List;
+
+/**
+ * 동적 Projections(사용자 정의 리포지토리 - 구현: MemberProjectionRepositoryImpl)
+ */
+public interface MemberProjectionRepository {
+
+    /**
+     * type에 @GeneratedProjection이 있으면 생성된 JPQL로 필요한 컬럼만 조회하고, 생성된 fromRow로 row를 바로 변환
+     * - 없는 인터페이스는 엔티티 조회 후 스프링 데이터 프로젝션(프록시, SpEL)으로 변환
+     */
+    <T> List<T> findProjectionsDynamicByUsername(String username, Class<T> type);
+}
@@ -0,0 +1,68 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberProjectionRepositoryImpl implements MemberProjectionRepository {
+
+    /**
+     * 프로젝션 타입별로 생성된 '타입명 + _Projection' 클래스의 조회 JPQL과 row 변환 함수(처음 한 번만 찾고 재사용)
+     * - 생성자 표현식(select new) 대신 값만 조회하고 생성된 fromRow(생성자 직접 호출)로 변환 -> 조회마다 리플렉션, 프록시 생성 X
+     */
+    private static final ClassValue<Optional<ProjectionMapping<?>>> generatedMappings = new ClassValue<>() {
+        @Override
+        protected Optional<ProjectionMapping<?>> computeValue(Class<?> type) {
+            try {
+                Class<?> projection = Class.forName(type.getName() + "_Projection", true, type.getClassLoader());
+                String select = (String) projection.getField("TUPLE_SELECT").get(null);
+                String alias = (String) projection.getField("ALIAS").get(null);
+                @SuppressWarnings("unchecked")
+                Function<Object[], ?> mapper = (Function<Object[], ?>) projection.getField("MAPPER").get(null);
+                return Optional.of(new ProjectionMapping<>(select + " where " + alias + ".username = :username", mapper));
+            } catch (ReflectiveOperationException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private final EntityManager em;
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @Override
+    public <T> List<T> findProjectionsDynamicByUsername(String username, Class<T> type) {
+        Optional<ProjectionMapping<?>> generated = generatedMappings.get(type);
+        if (generated.isPresent()) {
+            ProjectionMapping<?> mapping = generated.get();
+            List<Object[]> rows = em.createQuery(mapping.jpql(), Object[].class)
+                    .setParameter("username", username)
+                    .getResultList();
+            List<T> result = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                result.add(type.cast(mapping.mapper().apply(row)));
+            }
+            return result;
+        }
+
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("@GeneratedProjection이 없는 클래스는 프로젝션으로 사용할 수 없습니다: " + type.getName());
+        }
+        return em.createQuery("select m from Member m where m.username = :username", Member.class)
+                .setParameter("username", username)
+                .getResultList().stream()
+                .map(member -> projectionFactory.createProjection(type, member))
+                .toList();
+    }
+
+    private record ProjectionMapping<T>(String jpql, Function<Object[], T> mapper) {
+    }
+}
@@ -3,16 +3,23 @@ package com.example.data_jpa.repository;
 import com.example.data_jpa.dto.MemberDto;
 import com.example.data_jpa.entity.Member;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, MemberInClauseRepository,
+        MemberProjectionRepository, MemberAsyncRepository {
 
     // 스프링 데이터 JPA는 메소드 이름을 분석해서 JPQL을 생성하고 실행
     List<Member> findByUsernameAndAgeGreaterThan(String username, int age);
@@ -52,7 +59,28 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @Query("select new com.example.data_jpa.dto.MemberDto(m.id, m.username, t.name) from Member m join m.team t")
     List<MemberDto> findMemberDto();
 
-    // 컬렉션 파라미터 바인딩
+    /**
+     * DTO로 직접 페이징 조회
+     * - 결과 row를 바로 MemberDto로 채우므로 Member 엔티티/스냅샷이 영속성 컨텍스트에 올라가지 않음(변경 감지 X)
+     * - 정렬은 Pageable 그대로 사용(sort=username,desc -> m.username, 팀 이름은 sort=t.name)
+     * - 팀이 없는 회원도 포함(left join), count 쿼리는 join 없이 실행
+     */
+    @Query(value = "select new com.example.data_jpa.dto.MemberDto(m.id, m.username, t.name) from Member m left join m.team t",
+            countQuery = "select count(m) from Member m")
+    Page<MemberDto> findMemberDtoPage(Pageable pageable);
+
+    @Query(value = "select new com.example.data_jpa.dto.MemberDto(m.id, m.username, t.name) from Member m left join m.team t where m.age = :age",
+            countQuery = "select count(m) from Member m where m.age = :age")
+    Page<MemberDto> findMemberDtoPageByAge(@Param("age") int age, Pageable pageable);
+
+    // DTO로 직접 조회 - Slice(size + 1건만 조회, count 쿼리 X)
+    @Query("select new com.example.data_jpa.dto.MemberDto(m.id, m.username, t.name) from Member m left join m.team t")
+    Slice<MemberDto> findMemberDtoSlice(Pageable pageable);
+
+    @Query("select new com.example.data_jpa.dto.MemberDto(m.id, m.username, t.name) from Member m left join m.team t where m.age = :age")
+    Slice<MemberDto> findMemberDtoSliceByAge(@Param("age") int age, Pageable pageable);
+
+    // 컬렉션 파라미터 바인딩(값이 많으면 MemberInClauseRepository.findByNames(names, mode) 사용)
     @Query("select m from Member m where m.username in :names")
     List<Member> findByNames(@Param("names") Collection<String> names);
 
@@ -71,12 +99,26 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
 //    Slice<Member> findByAge(int age, Pageable pageable);
 //    List<Member> findByAge(int age, Pageable pageable);
 
+    // Slice: 다음 페이지 존재 여부만 필요한 경우(무한 스크롤, '더보기') - count 쿼리 없이 size + 1건 조회
+    Slice<Member> findSliceByAge(int age, Pageable pageable);
+
+    /**
+     * 키셋(Keyset) 페이징
+     * - offset 대신 마지막으로 조회한 데이터의 정렬 키(ex: username, id) 다음부터 조회 -> 페이지가 깊어져도 건너뛰는 row를 읽지 않음
+     * - 정렬 조건에 식별자(id)가 없으면 스프링 데이터 JPA가 id를 정렬 조건에 추가해서 정렬 키를 유일하게 만듦
+     * - 첫 페이지는 ScrollPosition.keyset(), 다음 페이지는 Window.positionAt()으로 얻은 위치를 전달
+     */
+    Window<Member> findWindowBy(ScrollPosition position, Sort sort, Limit limit);
+    Window<Member> findWindowByAge(int age, ScrollPosition position, Sort sort, Limit limit);
+
     /**
      * 벌크성 수정 쿼리
      * @Modifying
      * - Spring DATA JPA에서는 executeUpdate() 메서드를 지원하지 않기 때문에 해당 어노테이션이 필요함
      * - clearAutomatically: 영속성 컨텍스트 자동 초기화(해당 쿼리 실행 후 영속성 컨텍스트를 자동으로 초기화함)
+     * - @Transactional: 조회 메서드 기본값(readOnly = true)을 덮어써서 쓰기 트랜잭션(primary 데이터소스)에서 실행
      */
+    @Transactional
     @Modifying(clearAutomatically = true)
     @Query("update Member m set m.age = m.age + 1 where m.age >= :age")
     int bulkAgePlus(@Param("age") int age);
@@ -108,17 +150,26 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     /**
      * JPA 쿼리 힌트 사용
      * - 해당 메서드를 사용하면 엔티티를 읽기 전용으로 번경
+     * - 읽기 전용 트랜잭션으로 실행되므로 읽기/쓰기 데이터소스 분리 시 replica에서 조회(RoutingDataSourceConfig)
      */
+    @Transactional(readOnly = true)
     @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
     Member findReadOnlyByUsername(String username);
 
+    @Transactional(readOnly = true)
     @QueryHints(value = @QueryHint(name = "org.hibernate.readOnly", value = "true"), forCounting = true)
     Page<Member> findQueryHintsByUsername(String username, Pageable pageable);
 
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    Slice<Member> findQueryHintsSliceByUsername(String username, Pageable pageable);
+
     /**
      * Projections
+     * - 인터페이스 기반: 컴파일 시점에 생성된 JPQL(UsernameOnly_Projection.SELECT)로 필요한 컬럼만 조회
+     * - 동적 Projections(findProjectionsDynamicByUsername)은 MemberProjectionRepository에서 구현
      */
+    @Query(UsernameOnly_Projection.SELECT + " where m.username = :username")
     List<UsernameOnly> findProjectionsInterfaceByUsername(@Param("username") String username);
     List<UsernameOnlyDto> findProjectionsClassByUsername(@Param("username") String username);
-    <T> List<T> findProjectionsDynamicByUsername(@Param("username") String username, Class<T> type);
 }
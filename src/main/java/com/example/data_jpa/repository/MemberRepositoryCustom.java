@@ -1,9 +1,40 @@
 package com.example.data_jpa.repository;
 
 import com.example.data_jpa.entity.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MemberRepositoryCustom {
     List<Member> findMemberCustom();
+
+    /**
+     * 페이징 모드 선택(PagingMode)
+     * - COUNT, CACHED_COUNT: Page 반환(전체 개수 포함)
+     * - HAS_MORE: Slice 반환(count 쿼리 X)
+     */
+    Slice<Member> findPageByAge(int age, Pageable pageable, PagingMode mode);
+    Slice<Member> findPageByUsername(String username, Pageable pageable, PagingMode mode); // 읽기 전용(org.hibernate.readOnly)
+    Slice<Member> findPage(Pageable pageable, PagingMode mode);
+
+    /**
+     * 대량 등록(JDBC 배치 insert, batchSize 마다 flush + clear, batchSize는 1 이상)
+     */
+    void saveAllBatched(Iterable<Member> members, int batchSize);
+
+    /**
+     * 전체 회원을 커서(forward-only)로 한 건씩 읽어서 처리
+     * - List로 한 번에 조회하지 않고 fetchSize 단위로 DB에서 가져옴
+     * - 처리가 끝난 엔티티는 바로 준영속 상태로 만들어서 데이터 양과 관계없이 메모리 사용량을 일정하게 유지
+     */
+    void forEachMember(int fetchSize, Consumer<Member> action);
+
+    /**
+     * 벌크성 수정 쿼리(bulkAgePlus)와 같은 update, 단 영속성 컨텍스트 전체를 초기화하지 않음
+     * - 수정 조건(age >= :age)에 해당하는 회원만 준영속 상태로 만들어서 다음 조회 시 DB에서 다시 읽음
+     * - 팀 등 나머지 엔티티는 영속 상태 유지(다시 조회하지 않음)
+     */
+    int bulkAgePlusEvicting(int age);
 }
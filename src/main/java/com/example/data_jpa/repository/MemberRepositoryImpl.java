@@ -2,9 +2,25 @@ package com.example.data_jpa.repository;
 
 import com.example.data_jpa.entity.Member;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 /**
  * 사용자 정의 리포지토리 구현
@@ -18,9 +34,112 @@ import java.util.List;
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
     private final EntityManager em;
+    private final MemberCountCache memberCountCache;
 
     @Override
     public List<Member> findMemberCustom() {
         return em.createQuery("select m from Member m", Member.class).getResultList();
     }
+
+    @Override
+    public Slice<Member> findPageByAge(int age, Pageable pageable, PagingMode mode) {
+        return findSlice("select m from Member m where m.age = :age",
+                "select count(m) from Member m where m.age = :age",
+                Map.of("age", age), pageable, mode, false);
+    }
+
+    @Override
+    public Slice<Member> findPageByUsername(String username, Pageable pageable, PagingMode mode) {
+        return findSlice("select m from Member m where m.username = :username",
+                "select count(m) from Member m where m.username = :username",
+                Map.of("username", username), pageable, mode, true);
+    }
+
+    @Override
+    public Slice<Member> findPage(Pageable pageable, PagingMode mode) {
+        return findSlice("select m from Member m",
+                "select count(m) from Member m",
+                Map.of(), pageable, mode, false);
+    }
+
+    @Override
+    @Transactional
+    public void saveAllBatched(Iterable<Member> members, int batchSize) {
+        BatchInserts.persistAll(em, members, batchSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachMember(int fetchSize, Consumer<Member> action) {
+        // 전체 회원을 한 번씩 읽으므로 2차 캐시를 사용하지 않음(캐시 영역이 채워져서 자주 조회되는 엔티티가 밀려나지 않도록)
+        // 쿼리 힌트(cache.storeMode)는 쿼리 실행 동안만 적용되고 스트림의 행은 그 뒤에 읽으므로 세션의 캐시 모드를 바꿈
+        Session session = em.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Member> members = em.createQuery("select m from Member m", Member.class)
+                .setHint("org.hibernate.fetchSize", fetchSize)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultStream()) {
+            members.forEach(member -> {
+                action.accept(member);
+                em.detach(member);
+            });
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int bulkAgePlusEvicting(int age) {
+        // 보류 중인 변경을 먼저 반영해야 DB와 메모리의 age가 같아서 수정 대상을 정확히 골라낼 수 있음
+        em.flush();
+        int count = em.createQuery("update Member m set m.age = m.age + 1 where m.age >= :age")
+                .setParameter("age", age)
+                .executeUpdate();
+
+        // 2차 캐시: 하이버네이트가 벌크 연산 대상 엔티티(Member)의 캐시 영역을 비움(MemberBulkUpdateAspect에서도 제거)
+        // 1차 캐시: 수정 조건에 해당하는 회원만 준영속
+        PersistenceContext persistenceContext = em.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof Member member && member.getAge() >= age) {
+                em.detach(member);
+            }
+        }
+        return count;
+    }
+
+    private Slice<Member> findSlice(String query, String countQuery, Map<String, ?> params,
+                                    Pageable pageable, PagingMode mode, boolean readOnly) {
+        TypedQuery<Member> contentQuery = em.createQuery(QueryUtils.applySorting(query, pageable.getSort(), "m"), Member.class);
+        params.forEach(contentQuery::setParameter);
+        if (readOnly) {
+            contentQuery.setHint("org.hibernate.readOnly", true);
+        }
+        if (pageable.isPaged()) {
+            // HAS_MORE: 다음 페이지 존재 여부를 판단하기 위해 1건 더 조회
+            int limit = mode == PagingMode.HAS_MORE ? pageable.getPageSize() + 1 : pageable.getPageSize();
+            contentQuery.setFirstResult((int) pageable.getOffset());
+            contentQuery.setMaxResults(limit);
+        }
+        List<Member> content = contentQuery.getResultList();
+
+        if (mode == PagingMode.HAS_MORE) {
+            boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+
+        LongSupplier count = () -> count(countQuery, params);
+        LongSupplier total = mode == PagingMode.CACHED_COUNT
+                ? () -> memberCountCache.get(countQuery, params, count)
+                : count;
+        // 첫 페이지의 조회 결과가 size보다 작은 경우처럼 전체 개수를 알 수 있으면 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    private long count(String countQuery, Map<String, ?> params) {
+        TypedQuery<Long> query = em.createQuery(countQuery, Long.class);
+        params.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
 }
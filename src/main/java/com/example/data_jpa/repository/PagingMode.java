@@ -0,0 +1,13 @@
+package com.example.data_jpa.repository;
+
+/**
+ * 페이징 조회 모드
+ * - COUNT: 매 요청마다 count 쿼리 실행(스프링 데이터 JPA의 Page와 동일)
+ * - CACHED_COUNT: 조회 조건별 count 결과를 캐시해서 재사용(MemberCountCache)
+ * - HAS_MORE: size + 1건을 조회해서 다음 페이지 존재 여부만 판단(count 쿼리 X, Slice 반환)
+ */
+public enum PagingMode {
+    COUNT,
+    CACHED_COUNT,
+    HAS_MORE
+}
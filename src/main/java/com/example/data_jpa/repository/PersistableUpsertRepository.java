@@ -0,0 +1,16 @@
+package com.example.data_jpa.repository;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 대량 upsert - 식별자를 직접 할당하는 Persistable 엔티티용(ex: ItemRepository)
+ * - save()는 기존 식별자면 merge(select + update), 새 식별자면 persist(insert)를 건마다 실행
+ * - upsertAll()은 DB의 MERGE(또는 upsert) 문을 JDBC 배치로 전송하고 영속성 컨텍스트를 거치지 않음
+ */
+public interface PersistableUpsertRepository<T extends Persistable<?>> {
+
+    /**
+     * @return 처리한 엔티티 수
+     */
+    int upsertAll(Iterable<T> entities, int batchSize);
+}
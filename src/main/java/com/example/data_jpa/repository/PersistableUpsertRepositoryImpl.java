@@ -0,0 +1,193 @@
+package com.example.data_jpa.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.PersistenceUnitUtil;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.domain.Persistable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대량 upsert 구현
+ * - 테이블, 컬럼 정보는 하이버네이트 엔티티 매핑(AbstractEntityPersister)에서 가져옴
+ * - 지원 속성: 기본 타입, 단일 컬럼 식별자를 가진 @ManyToOne/@OneToOne(외래 키) - 컬렉션, 임베디드 타입은 제외
+ * - enum: 필드의 @Enumerated에 따라 STRING이면 name(), ORDINAL이거나 생략하면 ordinal()
+ * - 감사(Auditing): isNew()이면 @CreatedDate 등을 채우고, 아니면 @LastModifiedDate 등을 채움
+ *   updatable = false 컬럼(ex: Item.createdDate)은 이미 존재하는 row에서 변경하지 않음
+ * - 영속성 컨텍스트에 같은 엔티티가 있으면 DB와 달라지므로 upsert 후 다시 조회해야 함
+ */
+@RequiredArgsConstructor
+public class PersistableUpsertRepositoryImpl<T extends Persistable<?>> implements PersistableUpsertRepository<T> {
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<AuditingHandler> auditingHandler;
+    private final Map<Class<?>, UpsertStatement> statements = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional
+    public int upsertAll(Iterable<T> entities, int batchSize) {
+        List<T> batch = new ArrayList<>(batchSize);
+        int count = 0;
+        for (T entity : entities) {
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                count += flush(batch);
+            }
+        }
+        count += flush(batch);
+        return count;
+    }
+
+    private int flush(List<T> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        UpsertStatement statement = statements.computeIfAbsent(batch.get(0).getClass(), this::createStatement);
+        AuditingHandler auditing = auditingHandler.getIfAvailable();
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (T entity : batch) {
+            if (auditing != null) {
+                if (entity.isNew()) {
+                    auditing.markCreated(entity);
+                } else {
+                    auditing.markModified(entity);
+                }
+            }
+            rows.add(statement.values(entity));
+        }
+        jdbcTemplate.batchUpdate(statement.sql, rows);
+        em.getEntityManagerFactory().getCache().evict(statement.entityClass); // 2차 캐시를 사용하는 엔티티인 경우
+
+        int count = batch.size();
+        batch.clear();
+        return count;
+    }
+
+    private UpsertStatement createStatement(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        if (persister.getIdentifierColumnNames().length != 1) {
+            throw new IllegalArgumentException("단일 컬럼 식별자만 지원합니다: " + entityClass.getName());
+        }
+
+        List<String> columns = new ArrayList<>();
+        List<String> updatableColumns = new ArrayList<>();
+        List<Integer> properties = new ArrayList<>();
+        Map<Integer, EnumType> enumTypes = new HashMap<>();
+        columns.add(persister.getIdentifierColumnNames()[0]);
+
+        Type[] types = persister.getPropertyTypes();
+        boolean[] updatable = persister.getPropertyUpdateability();
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isCollectionType()) {
+                continue;
+            }
+            String[] propertyColumns = persister.getPropertyColumnNames(i);
+            if (propertyColumns.length != 1 || types[i].isComponentType()) {
+                throw new IllegalArgumentException("지원하지 않는 속성입니다: " + entityClass.getName() + "." + persister.getPropertyNames()[i]);
+            }
+            columns.add(propertyColumns[0]);
+            if (updatable[i]) {
+                updatableColumns.add(propertyColumns[0]);
+            }
+            properties.add(i);
+            if (types[i].getReturnedClass().isEnum()) {
+                enumTypes.put(i, enumType(entityClass, persister.getPropertyNames()[i]));
+            }
+        }
+
+        String sql = upsertSql(sessionFactory.getJdbcServices().getDialect(), persister.getTableName(), columns, updatableColumns);
+        return new UpsertStatement(entityClass, sql, persister, properties, enumTypes, em.getEntityManagerFactory().getPersistenceUnitUtil());
+    }
+
+    // JPA 기본값은 ORDINAL(@Enumerated 생략 시)
+    private static EnumType enumType(Class<?> entityClass, String property) {
+        Field field = ReflectionUtils.findField(entityClass, property);
+        Enumerated enumerated = field == null ? null : field.getAnnotation(Enumerated.class);
+        return enumerated == null ? EnumType.ORDINAL : enumerated.value();
+    }
+
+    // MySQL: insert ... on duplicate key update, PostgreSQL: insert ... on conflict, 그 외(H2 등): SQL 표준 MERGE
+    private static String upsertSql(Dialect dialect, String table, List<String> columns, List<String> updatableColumns) {
+        String id = columns.get(0);
+        String columnList = String.join(", ", columns);
+        String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+
+        if (dialect instanceof MySQLDialect) {
+            List<String> assignments = updatableColumns.stream().map(column -> column + " = values(" + column + ")").toList();
+            return "insert into " + table + " (" + columnList + ") values (" + placeholders + ")"
+                    + (assignments.isEmpty() ? " on duplicate key update " + id + " = " + id : " on duplicate key update " + String.join(", ", assignments));
+        }
+        if (dialect instanceof PostgreSQLDialect) {
+            List<String> assignments = updatableColumns.stream().map(column -> column + " = excluded." + column).toList();
+            return "insert into " + table + " (" + columnList + ") values (" + placeholders + ") on conflict (" + id + ")"
+                    + (assignments.isEmpty() ? " do nothing" : " do update set " + String.join(", ", assignments));
+        }
+
+        List<String> sourceColumns = columns.stream().map(column -> "s." + column).toList();
+        List<String> assignments = updatableColumns.stream().map(column -> column + " = s." + column).toList();
+        return "merge into " + table + " t using (values (" + placeholders + ")) s(" + columnList + ")"
+                + " on t." + id + " = s." + id
+                + (assignments.isEmpty() ? "" : " when matched then update set " + String.join(", ", assignments))
+                + " when not matched then insert (" + columnList + ") values (" + String.join(", ", sourceColumns) + ")";
+    }
+
+    private static final class UpsertStatement {
+
+        private final Class<?> entityClass;
+        private final String sql;
+        private final AbstractEntityPersister persister;
+        private final List<Integer> properties;
+        private final Map<Integer, EnumType> enumTypes; // 속성 인덱스 -> enum 저장 방식
+        private final PersistenceUnitUtil persistenceUnitUtil;
+
+        private UpsertStatement(Class<?> entityClass, String sql, AbstractEntityPersister persister,
+                                List<Integer> properties, Map<Integer, EnumType> enumTypes, PersistenceUnitUtil persistenceUnitUtil) {
+            this.entityClass = entityClass;
+            this.sql = sql;
+            this.persister = persister;
+            this.properties = properties;
+            this.enumTypes = enumTypes;
+            this.persistenceUnitUtil = persistenceUnitUtil;
+        }
+
+        private Object[] values(Object entity) {
+            Object[] values = new Object[properties.size() + 1];
+            values[0] = persistenceUnitUtil.getIdentifier(entity);
+            Type[] types = persister.getPropertyTypes();
+            for (int i = 0; i < properties.size(); i++) {
+                int property = properties.get(i);
+                Object value = persister.getValue(entity, property);
+                if (value != null && types[property].isEntityType()) {
+                    value = persistenceUnitUtil.getIdentifier(value); // 연관 엔티티 -> 외래 키
+                } else if (value instanceof Enum<?> constant) {
+                    value = enumTypes.get(property) == EnumType.STRING ? constant.name() : constant.ordinal();
+                }
+                values[i + 1] = value;
+            }
+            return values;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,12 @@ public class TeamJpaRepository {
         return team;
     }
 
+    // 대량 등록(JDBC 배치 insert, batchSize 마다 flush + clear - BatchInserts)
+    @Transactional
+    public void saveAllBatched(Iterable<Team> teams, int batchSize) {
+        BatchInserts.persistAll(em, teams, batchSize);
+    }
+
     public void delete(Team team) {
         em.remove(team);
     }
@@ -3,5 +3,9 @@ package com.example.data_jpa.repository;
 import com.example.data_jpa.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    List<Team> findByNameStartingWith(String prefix);
 }
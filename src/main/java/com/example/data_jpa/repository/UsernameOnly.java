@@ -1,12 +1,16 @@
 package com.example.data_jpa.repository;
 
 import com.example.data_jpa.entity.Team;
+import com.example.data_jpa.projection.GeneratedProjection;
 import org.springframework.beans.factory.annotation.Value;
 
 /**
  * 인터페이스 기반 Projections
  * - 프로퍼티 형식(getter)의 인터페이스를 제공하면, 구현체는 스프링 데이터 JPA가 제공
+ * - @GeneratedProjection: 컴파일 시점에 구현체(UsernameOnly_Projection)와 필요한 컬럼만 조회하는 JPQL을 생성
+ *   (오픈 프로젝션의 SpEL도 JPQL 식으로 변환되므로 엔티티 전체 조회, 프록시 생성, SpEL 평가가 필요 없음)
  */
+@GeneratedProjection(entity = "Member")
 public interface UsernameOnly {
     /*Close Projections*/
     // 인터페이스에 정의한 목록만 DTO처럼 가져올 수 있음
@@ -1,5 +1,13 @@
 package com.example.data_jpa.repository;
 
+import com.example.data_jpa.projection.GeneratedProjection;
+
+/**
+ * 클래스 기반 Projections
+ * - 생성자의 파라미터 이름으로 매칭
+ * - @GeneratedProjection: 컴파일 시점에 생성자 표현식 JPQL(UsernameOnlyDto_Projection.SELECT) 생성
+ */
+@GeneratedProjection(entity = "Member")
 public class UsernameOnlyDto {
 
     private final String username;
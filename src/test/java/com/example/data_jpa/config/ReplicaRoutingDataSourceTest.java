@@ -0,0 +1,128 @@
+package com.example.data_jpa.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 H2 인메모리 DB 두 개를 primary/replica로 사용
+ * - 각 DB의 node 테이블에 DB 이름을 넣어두고, 조회 결과로 어느 데이터소스로 라우팅되었는지 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    ReplicaRouter router;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate writeTx;
+    TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        setUp(new RoutingDataSourceProperties());
+    }
+
+    void setUp(RoutingDataSourceProperties properties) {
+        if (router != null) {
+            tearDown();
+        }
+        properties.setHealthCheckInterval(Duration.ofHours(1)); // 테스트에서 직접 checkHealth() 호출
+
+        router = new ReplicaRouter(h2("primary"), Map.of("replica-0", h2("replica")), properties);
+        router.checkHealth();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(router));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            router.destroy();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        router = null;
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readTx.<String>execute(status -> node())).isEqualTo("replica");
+        assertThat(writeTx.<String>execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary"); // 트랜잭션 없음
+    }
+
+    @Test
+    void stickyPrimaryAfterWrite() throws InterruptedException {
+        RoutingDataSourceProperties properties = new RoutingDataSourceProperties();
+        properties.setStickyWindow(Duration.ofMillis(300));
+        setUp(properties);
+
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("insert into node values ('written')"));
+        assertThat(readTx.<String>execute(status -> node())).isEqualTo("primary");
+
+        Thread.sleep(400);
+        assertThat(readTx.<String>execute(status -> node())).isEqualTo("replica");
+    }
+
+    // 쓰기 후 primary 고정은 쓴 스레드에만 적용됨
+    @Test
+    void stickyOnlyForWriter() throws Exception {
+        RoutingDataSourceProperties properties = new RoutingDataSourceProperties();
+        properties.setStickyWindow(Duration.ofMinutes(1));
+        setUp(properties);
+
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("insert into node values ('written')"));
+
+        assertThat(readTx.<String>execute(status -> node())).isEqualTo("primary");
+        assertThat(CompletableFuture.supplyAsync(() -> readTx.<String>execute(status -> node()), runnable -> new Thread(runnable).start())
+                .get()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotStick() {
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into node values ('written')");
+            status.setRollbackOnly();
+        });
+        assertThat(readTx.<String>execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() {
+        RoutingDataSourceProperties properties = new RoutingDataSourceProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setLagQuery("select 10"); // 복제 지연 10초
+        setUp(properties);
+
+        assertThat(readTx.<String>execute(status -> node())).isEqualTo("primary");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node where name <> 'written'", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.data_jpa.config;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 트랜잭션(JpaTransactionManager) + LazyConnectionDataSourceProxy 경로의 읽기/쓰기 분리
+ * - primary: 테스트 기본 DB(DATAJPA), replica: H2 인메모리 DB(REPLICA)
+ * - 어느 데이터소스로 라우팅되었는지 H2의 database() 함수로 확인
+ * - 쓰기 후 primary 고정은 스레드 단위이므로 각 확인은 새 스레드에서 실행
+ */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replicas[0].url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.routing.replicas[0].username=sa",
+        "app.datasource.routing.replicas[0].password=",
+        "app.datasource.routing.sticky-window=1m",
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "app.seed.mode=none",
+        "app.warmup.enabled=false"
+})
+class ReplicaRoutingJpaTest {
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    ReplicaRouter replicaRouter;
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(onNewThread(() -> database(true))).isEqualTo("REPLICA");
+        assertThat(onNewThread(() -> database(false))).isEqualTo("DATAJPA");
+    }
+
+    // 쓰기 트랜잭션 커밋 후 같은 스레드의 읽기만 primary, 다른 스레드는 계속 replica
+    @Test
+    void stickyOnlyForWriter() {
+        onNewThread(() -> {
+            Member member = memberRepository.save(new Member("routing"));
+            try {
+                assertThat(database(true)).isEqualTo("DATAJPA");
+                assertThat(onNewThread(() -> database(true))).isEqualTo("REPLICA");
+            } finally {
+                memberRepository.delete(member);
+            }
+            return null;
+        });
+    }
+
+    // spring.datasource.hikari 설정이 primary/replica 풀에 모두 적용됨
+    @Test
+    void hikariPropertiesBound() {
+        assertThat(replicaRouter.targetDataSources()).hasSize(2);
+        assertThat(replicaRouter.targetDataSources()).allSatisfy((name, dataSource) -> {
+            assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+            assertThat(((HikariDataSource) dataSource).getMaximumPoolSize()).isEqualTo(7);
+            assertThat(((HikariDataSource) dataSource).getPoolName()).isEqualTo(name);
+        });
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> (String) em.createNativeQuery("select database()").getSingleResult());
+    }
+
+    private static <T> T onNewThread(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, runnable -> new Thread(runnable).start()).join();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.data_jpa.controller;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 2차 캐시 - 트랜잭션(영속성 컨텍스트)이 달라도 같은 회원은 DB를 다시 조회하지 않음
+ * - 리포지토리 호출마다 별도 트랜잭션으로 실행되도록 테스트에 @Transactional을 붙이지 않음
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CacheStatisticsControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Member member;
+
+    @AfterEach
+    void tearDown() {
+        if (member != null) {
+            memberRepository.deleteById(member.getId());
+        }
+    }
+
+    @Test
+    void secondLevelCacheHit() throws Exception {
+        //given
+        member = memberRepository.save(new Member("cacheMember", 60));
+        entityManagerFactory.getCache().evict(Member.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        memberRepository.findById(member.getId()); // miss -> select 후 캐시에 저장
+
+        //when
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long hitsBefore = statistics.getDomainDataRegionStatistics("member").getHitCount();
+        Member cached = memberRepository.findById(member.getId()).orElseThrow();
+
+        //then
+        assertThat(cached.getUsername()).isEqualTo("cacheMember");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore); // select 없음
+        assertThat(statistics.getDomainDataRegionStatistics("member").getHitCount()).isEqualTo(hitsBefore + 1);
+        mockMvc.perform(get("/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.member.hit").value(greaterThan(0)));
+    }
+}
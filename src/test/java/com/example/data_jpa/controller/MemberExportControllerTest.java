@@ -0,0 +1,106 @@
+package com.example.data_jpa.controller;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 내보내기 - 커서로 한 건씩 읽고 처리한 엔티티는 바로 준영속 상태로 만듦(forEachMember)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class MemberExportControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    MemberRepository memberRepository;
+    @PersistenceContext
+    EntityManager em;
+
+    // 내보내기 fetch size(1000)보다 많은 회원
+    @Test
+    void exportMembers() throws Exception {
+        //given
+        saveMembers(2_500);
+
+        //when
+        MvcResult result = mockMvc.perform(get("/members/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        //then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize((int) memberRepository.count());
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.contains("\"username\""));
+        assertThat(managedEntities()).isZero();
+    }
+
+    // fetch size보다 많은 회원을 읽어도 영속성 컨텍스트에는 처리 중인 회원 한 명만 남음
+    @Test
+    void forEachMemberDetachesProcessedMembers() {
+        //given
+        saveMembers(250);
+        long total = memberRepository.count();
+
+        //when
+        List<Integer> managed = new ArrayList<>();
+        memberRepository.forEachMember(100, member -> managed.add(managedEntities()));
+
+        //then
+        assertThat(managed).hasSize((int) total);
+        assertThat(managed).allMatch(count -> count == 1);
+        assertThat(managedEntities()).isZero();
+    }
+
+    // 전체 회원을 읽어도 2차 캐시에 저장하지 않음
+    @Test
+    void forEachMemberBypassesSecondLevelCache() {
+        //given
+        saveMembers(10);
+        Cache cache = em.getEntityManagerFactory().getCache();
+        cache.evict(Member.class);
+
+        //when
+        List<Long> ids = new ArrayList<>();
+        memberRepository.forEachMember(100, member -> ids.add(member.getId()));
+
+        //then
+        assertThat(ids).isNotEmpty();
+        assertThat(ids).noneMatch(id -> cache.contains(Member.class, id));
+    }
+
+    private void saveMembers(int count) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add(new Member("export" + i, 50));
+        }
+        memberRepository.saveAllBatched(members, 500); // 등록 후 영속성 컨텍스트 비움
+    }
+
+    private int managedEntities() {
+        return em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities();
+    }
+}
@@ -3,14 +3,20 @@ package com.example.data_jpa.entity;
 import com.example.data_jpa.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class MemberTest {
 
@@ -20,6 +26,9 @@ class MemberTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @Transactional
     @Rollback(false)
@@ -73,4 +82,31 @@ class MemberTest {
         System.out.println("findMember.getCreatedDate() = " + findMember.getCreatedDate());
         System.out.println("findMember.getUpdateDate() = " + findMember.getUpdatedDate());
     }
-}
\ No newline at end of file
+
+    /**
+     * 회원 10만 명인 팀에 회원 추가 - members 컬렉션을 조회하지 않음
+     */
+    @Test
+    @Transactional
+    void changeTeamWithoutInitializingMembers() {
+        // given
+        long teamId = 2_000_000_000L;
+        jdbcTemplate.update("insert into team (team_id, name) values (?, 'bigTeam')", teamId);
+        jdbcTemplate.update("insert into member (member_id, username, age, team_id)" +
+                " select x, 'bigTeamMember', 0, ? from system_range(?, ?)", teamId, teamId + 1, teamId + 100_000);
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Team team = em.find(Team.class, teamId);
+        long collectionLoads = statistics.getCollectionLoadCount();
+
+        // when
+        Member member = new Member("newMember", 10, team);
+        em.persist(member);
+        em.flush();
+
+        // then
+        assertThat(statistics.getCollectionLoadCount()).isEqualTo(collectionLoads);
+        assertThat(Hibernate.isInitialized(team.getMembers())).isFalse();
+        assertThat(member.getTeam()).isSameAs(team);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.data_jpa.monitoring;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.repository.MemberJpaRepository;
+import com.example.data_jpa.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// slow-threshold 0: 모든 호출을 느린 호출로 판단
+// 시작 시 워밍업(StartupWarmup)이 리포지토리 조회 메서드를 호출하므로 꺼서 이 테스트의 호출만 집계
+@SpringBootTest(properties = {"app.monitoring.repository.slow-threshold=0ms", "app.warmup.enabled=false"})
+@RecordApplicationEvents
+@Transactional
+class RepositoryMetricsTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    ApplicationEvents events;
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    void repositoryMetrics() {
+        //given
+        memberRepository.save(new Member("metricsMember", 10));
+        memberRepository.save(new Member("metricsMember", 20));
+        em.flush();
+        em.clear();
+
+        //when
+        memberRepository.findListByUsername("metricsMember");
+        memberJpaRepository.findByUsername("metricsMember");
+
+        //then
+        Timer timer = meterRegistry.find("repository.invocations")
+                .tags("repository", "MemberRepository", "method", "findListByUsername", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(summary("repository.rows", "findListByUsername").totalAmount()).isEqualTo(2);
+        assertThat(summary("repository.statements", "findListByUsername").totalAmount()).isEqualTo(1);
+        assertThat(summary("repository.entities.loaded", "findListByUsername").totalAmount()).isEqualTo(2);
+
+        assertThat(meterRegistry.find("repository.invocations")
+                .tags("repository", "MemberJpaRepository", "method", "findByUsername")
+                .timer()).isNotNull();
+
+        assertThat(events.stream(SlowRepositoryCallEvent.class))
+                .anyMatch(event -> event.repository().equals("MemberRepository")
+                        && event.method().equals("findListByUsername")
+                        && event.rows() == 2);
+    }
+
+    private DistributionSummary summary(String name, String method) {
+        return meterRegistry.find(name)
+                .tags("repository", "MemberRepository", "method", method)
+                .summary();
+    }
+}
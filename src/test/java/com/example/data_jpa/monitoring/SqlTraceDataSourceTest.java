@@ -0,0 +1,127 @@
+package com.example.data_jpa.monitoring;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 샘플링 SQL 추적 - 애플리케이션 dataSource(SqlTraceDataSource로 감싼)로 실행한 SQL이 /actuator/sqltrace에 집계됨
+ * - sample-rate 1: 모든 실행을 기록
+ */
+@SpringBootTest(properties = {
+        "app.sql-trace.enabled=true",
+        "app.sql-trace.sample-rate=1",
+        "app.seed.mode=none",
+        "app.warmup.enabled=false"
+})
+@AutoConfigureMockMvc
+class SqlTraceDataSourceTest {
+
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void reset() throws Exception {
+        mockMvc.perform(delete("/actuator/sqltrace")).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void statementsAreWrapped() throws Exception {
+        assertThat(dataSource).isInstanceOf(SqlTraceDataSource.class);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             PreparedStatement prepared = connection.prepareStatement("select 1")) {
+            assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+            assertThat(Proxy.isProxyClass(statement.getClass())).isTrue();
+            assertThat(Proxy.isProxyClass(prepared.getClass())).isTrue();
+        }
+    }
+
+    @Test
+    void executeIsSampled() throws Exception {
+        //when
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             PreparedStatement prepared = connection.prepareStatement("select count(*) from member where age = ?")) {
+            prepared.setInt(1, 10);
+            prepared.executeQuery().close();
+            prepared.setInt(1, 20);
+            prepared.executeQuery().close();
+            statement.execute("select count(*) from member where member_id = 1");
+        }
+
+        //then
+        Map<String, Map<String, Number>> snapshot = snapshot();
+        assertThat(snapshot.get("select count(*) from member where age = ?").get("sampled").longValue()).isEqualTo(2);
+        assertThat(snapshot.get("select count(*) from member where member_id = ?").get("sampled").longValue()).isEqualTo(1);
+    }
+
+    // 일반 Statement 배치: addBatch(sql)로 넣은 SQL마다 기록
+    @Test
+    void plainStatementBatch() throws Exception {
+        //when
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.addBatch("update member set age = age where member_id = -1");
+            statement.addBatch("update member set age = age where member_id = -2");
+            statement.addBatch("update team set name = name where team_id = -1");
+            statement.executeBatch();
+        }
+
+        //then
+        Map<String, Map<String, Number>> snapshot = snapshot();
+        assertThat(snapshot).doesNotContainKey(null);
+        assertThat(snapshot.get("update member set age = age where member_id = ?").get("sampled").longValue()).isEqualTo(2);
+        assertThat(snapshot.get("update team set name = name where team_id = ?").get("sampled").longValue()).isEqualTo(1);
+    }
+
+    // unwrap은 원본 객체를 반환하므로 원본으로 실행한 SQL은 기록되지 않음
+    @Test
+    void unwrapBypassesTracing() throws Exception {
+        //when
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            Connection unwrappedConnection = connection.unwrap(Connection.class);
+            Statement unwrappedStatement = statement.unwrap(Statement.class);
+            assertThat(Proxy.isProxyClass(unwrappedConnection.getClass())).isFalse();
+            assertThat(Proxy.isProxyClass(unwrappedStatement.getClass())).isFalse();
+
+            try (ResultSet resultSet = unwrappedStatement.executeQuery("select count(*) from member where username = 'unwrapped'")) {
+                resultSet.next();
+            }
+        }
+
+        //then
+        assertThat(snapshot()).doesNotContainKey("select count(*) from member where username = ?");
+    }
+
+    private Map<String, Map<String, Number>> snapshot() throws Exception {
+        String json = mockMvc.perform(get("/actuator/sqltrace").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, new TypeReference<>() {
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.data_jpa.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTracerTest {
+
+    @Test
+    void normalize() {
+        assertThat(SqlTracer.normalize("select *  from member\n where age = 10 and username = 'it''s'"))
+                .isEqualTo("select * from member where age = ? and username = ?");
+        assertThat(SqlTracer.normalize("update member set age = age-1 where member_id = -1 and age > -0.5"))
+                .isEqualTo("update member set age = age-? where member_id = ? and age > ?");
+    }
+
+    @Test
+    void aggregateByNormalizedStatement() {
+        SqlTracer tracer = new SqlTracer(1.0, 100, Duration.ZERO, 10);
+        for (int i = 1; i <= 100; i++) {
+            tracer.record("select * from member where member_id = " + i, i * 1_000_000L); // 1ms ~ 100ms
+        }
+
+        Map<String, Map<String, Number>> snapshot = tracer.snapshot(10);
+        Map<String, Number> stats = snapshot.get("select * from member where member_id = ?");
+        assertThat(snapshot).hasSize(1);
+        assertThat(stats.get("count")).isEqualTo(100L);
+        assertThat(stats.get("maxMs")).isEqualTo(100.0);
+        // p99는 버킷 상한(오차 25% 이내)
+        assertThat(stats.get("p99Ms").doubleValue()).isBetween(99.0 * 0.75, 100.0);
+    }
+
+    // 개수 제한은 새로운 정규화 SQL에만 적용(원본 SQL이 많아도 같은 SQL로 집계)
+    @Test
+    void maxStatementsAppliesToNormalizedStatements() {
+        SqlTracer tracer = new SqlTracer(1.0, 2, Duration.ZERO, 10);
+        for (int i = 1; i <= 10; i++) {
+            tracer.record("select * from member where member_id = " + i, 1_000_000L);
+        }
+        tracer.record("select * from team where team_id = 1", 1_000_000L);
+        tracer.record("select * from member where age = 1", 1_000_000L);
+
+        Map<String, Map<String, Number>> snapshot = tracer.snapshot(10);
+        assertThat(snapshot.get("select * from member where member_id = ?").get("count")).isEqualTo(10L);
+        assertThat(snapshot.get("select * from team where team_id = ?").get("count")).isEqualTo(1L);
+        assertThat(snapshot.get("(other)").get("count")).isEqualTo(1L);
+    }
+}
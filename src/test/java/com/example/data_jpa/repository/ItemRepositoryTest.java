@@ -0,0 +1,45 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Item;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ItemRepositoryTest {
+
+    @Autowired
+    ItemRepository itemRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void upsertAll() {
+        //given
+        itemRepository.upsertAll(List.of(new Item(1L, "A"), new Item(2L, "B"), new Item(3L, "C")), 2);
+        Timestamp createdDate = createdDate(1L);
+
+        //when: 기존 식별자 1, 2 + 새 식별자 4
+        int count = itemRepository.upsertAll(List.of(new Item(1L, "A2"), new Item(2L, "B2"), new Item(4L, "D")), 2);
+
+        //then
+        assertThat(count).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("select name from item where id between 1 and 4 order by id", String.class))
+                .containsExactly("A2", "B2", "C", "D");
+        assertThat(createdDate).isNotNull();
+        assertThat(createdDate(1L)).isEqualTo(createdDate); // 생성일(updatable = false) 유지
+        assertThat(createdDate(4L)).isNotNull();
+    }
+
+    private Timestamp createdDate(Long id) {
+        return jdbcTemplate.queryForObject("select created_date from item where id = ?", Timestamp.class, id);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.monitoring.StatementListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 조회 - 조회마다 repositoryTaskExecutor의 다른 스레드에서 별도의 읽기 전용 트랜잭션으로 실행
+ * - 작업 스레드의 트랜잭션에서는 테스트 트랜잭션의 커밋 전 데이터가 보이지 않으므로 테스트에 @Transactional을 붙이지 않음
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberAsyncRepositoryTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ExecutionCapture executionCapture;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            members.add(new Member("async", 4000 + i % 2));
+        }
+        members = memberRepository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executionCapture.stop();
+        memberRepository.deleteAllInBatch(members);
+    }
+
+    @Test
+    void eachQueryRunsInOwnReadOnlyTransaction() {
+        //given
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by("id"));
+        executionCapture.start(3); // 세 조회가 모두 시작될 때까지 각 스레드를 대기시켜서 동시에 실행되는지 확인
+
+        //when
+        CompletableFuture<List<Member>> sameUsername = memberRepository.findByUsernameAsync("async");
+        CompletableFuture<Long> totalCount = memberRepository.countAsync();
+        CompletableFuture<Page<Member>> sameAge = memberRepository.findByAgeAsync(4000, pageRequest);
+        CompletableFuture.allOf(sameUsername, totalCount, sameAge).join();
+        List<Execution> executions = executionCapture.stop();
+
+        //then
+        assertThat(executions).extracting(Execution::thread).doesNotContain(Thread.currentThread().getName());
+        assertThat(executions.stream().map(Execution::thread).distinct()).hasSize(3);
+        assertThat(executions).allMatch(execution -> execution.transactional() && execution.readOnly());
+
+        // 동기 조회와 같은 결과
+        assertThat(sameUsername.join()).extracting(Member::getId)
+                .containsExactlyInAnyOrderElementsOf(ids(memberRepository.findListByUsername("async")));
+        assertThat(totalCount.join()).isEqualTo(memberRepository.count());
+        Page<Member> expectedPage = memberRepository.findByAge(4000, pageRequest);
+        assertThat(sameAge.join().getContent()).extracting(Member::getId).isEqualTo(ids(expectedPage.getContent()));
+        assertThat(sameAge.join().getTotalElements()).isEqualTo(expectedPage.getTotalElements());
+    }
+
+    // 조회 하나가 실패하면 조합한 future도 같은 예외로 실패
+    @Test
+    void failureInOneQueryPropagates() {
+        //when
+        CompletableFuture<List<Member>> sameUsername = memberRepository.findByUsernameAsync("async");
+        CompletableFuture<Page<Member>> sameAge = memberRepository.findByAgeAsync(4000, PageRequest.of(0, 2, Sort.by("noSuchProperty")));
+
+        //then
+        assertThatThrownBy(() -> CompletableFuture.allOf(sameUsername, sameAge).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PropertyReferenceException.class);
+        assertThat(sameUsername.join()).hasSize(members.size());
+    }
+
+    @Test
+    void memberSummary() throws Exception {
+        mockMvc.perform(get("/members/summary")
+                        .param("username", "async")
+                        .param("age", "4001")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sameUsername.length()").value(members.size()))
+                .andExpect(jsonPath("$.totalCount").value(memberRepository.count()))
+                .andExpect(jsonPath("$.sameAge.content.length()").value(memberRepository.findByAge(4001, PageRequest.of(0, 10)).getNumberOfElements()));
+    }
+
+    private static List<Long> ids(List<Member> members) {
+        return members.stream().map(Member::getId).toList();
+    }
+
+    record Execution(String thread, boolean transactional, boolean readOnly) {
+    }
+
+    @TestConfiguration
+    static class ExecutionCaptureConfig {
+
+        @Bean
+        ExecutionCapture executionCapture() {
+            return new ExecutionCapture();
+        }
+    }
+
+    // SQL을 실행한 스레드와 트랜잭션 상태 수집(MonitoringConfig의 StatementInspector로 등록)
+    static class ExecutionCapture implements StatementListener {
+
+        private final List<Execution> executions = new CopyOnWriteArrayList<>();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private volatile CountDownLatch allStarted;
+
+        @Override
+        public void onStatement(String sql) {
+            CountDownLatch latch = allStarted;
+            if (latch == null) {
+                return;
+            }
+            executions.add(new Execution(Thread.currentThread().getName(),
+                    TransactionSynchronizationManager.isActualTransactionActive(),
+                    TransactionSynchronizationManager.isCurrentTransactionReadOnly()));
+            if (threads.add(Thread.currentThread().getName())) {
+                latch.countDown();
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        void start(int expectedThreads) {
+            executions.clear();
+            threads.clear();
+            allStarted = new CountDownLatch(expectedThreads);
+        }
+
+        List<Execution> stop() {
+            allStarted = null;
+            return List.copyOf(executions);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.data_jpa.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberCountCacheTest {
+
+    private final MemberCountCache cache = new MemberCountCache(Duration.ofMinutes(1), 100);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cacheUntilInvalidated() {
+        AtomicInteger queries = new AtomicInteger();
+
+        cache.get("count", Map.of("age", 10), () -> queries.incrementAndGet());
+        cache.get("count", Map.of("age", 10), () -> queries.incrementAndGet());
+        assertThat(queries).hasValue(1);
+
+        cache.invalidateAll();
+        cache.get("count", Map.of("age", 10), () -> queries.incrementAndGet());
+        assertThat(queries).hasValue(2);
+    }
+
+    // 쓰기 트랜잭션 안에서 캐시한 값(커밋되지 않은 count)은 롤백 후에도 남지 않음
+    @Test
+    void invalidateAfterRollback() {
+        AtomicInteger queries = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAll(); // 회원 등록
+        cache.get("count", Map.of("age", 10), () -> queries.incrementAndGet()); // 같은 트랜잭션에서 조회 -> 캐시
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        cache.get("count", Map.of("age", 10), () -> queries.incrementAndGet());
+        assertThat(queries).hasValue(2);
+    }
+
+    // 한 트랜잭션에서 회원을 대량으로 등록해도 커밋 후 무효화는 한 번만 등록
+    @Test
+    void oneSynchronizationPerTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.invalidateAll();
+        }
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.data_jpa.repository;
 
 import com.example.data_jpa.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -18,6 +25,8 @@ class MemberJpaRepositoryTest {
 
     @Autowired
     MemberJpaRepository memberJpaRepository;
+    @PersistenceContext
+    EntityManager em;
 
     @Test
     void testMembers() {
@@ -119,6 +128,53 @@ class MemberJpaRepositoryTest {
         assertThat(totalCount).isEqualTo(5);
     }
 
+    // JDBC 배치를 사용한 대량 등록 - batchSize 마다 flush + clear 되므로 영속성 컨텍스트의 엔티티 수가 batchSize를 넘지 않음
+    @Test
+    void saveAllBatched() {
+        //given
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            members.add(new Member("batch" + i, 30));
+        }
+        em.clear();
+        Session session = em.unwrap(Session.class);
+        Integer defaultBatchSize = session.getJdbcBatchSize();
+
+        // 각 회원을 등록하기 직전의 영속 엔티티 수
+        List<Integer> managedBeforePersist = new ArrayList<>();
+        Iterable<Member> recording = () -> members.stream()
+                .map(member -> {
+                    managedBeforePersist.add(managedEntities());
+                    return member;
+                })
+                .iterator();
+
+        //when
+        memberJpaRepository.saveAllBatched(recording, 100);
+
+        //then
+        assertThat(members).allMatch(m -> m.getId() != null);
+        for (int i = 0; i < members.size(); i++) {
+            assertThat(managedBeforePersist.get(i)).as("%d번째 등록 전", i).isEqualTo(i % 100);
+        }
+        assertThat(managedEntities()).isZero();
+        assertThat(session.getJdbcBatchSize()).isEqualTo(defaultBatchSize); // 세션의 배치 크기 복원
+        assertThat(memberJpaRepository.totalCount(30)).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    @Rollback // 예외로 트랜잭션이 롤백 전용이 되므로 커밋하지 않음
+    void saveAllBatchedRejectsInvalidBatchSize() {
+        // @Repository의 예외 변환으로 IllegalArgumentException -> InvalidDataAccessApiUsageException
+        assertThatThrownBy(() -> memberJpaRepository.saveAllBatched(List.of(new Member("batch", 30)), 0))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int managedEntities() {
+        return em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities();
+    }
+
     // JPA를 사용한 벌크성 수정 쿼리 테스트
     @Test
     void bulkUpdate() {
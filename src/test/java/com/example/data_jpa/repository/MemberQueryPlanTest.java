@@ -0,0 +1,212 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.monitoring.StatementListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MemberRepository 조회 메서드의 실행 계획 검증(H2 EXPLAIN)
+ * - 메서드마다 실제로 실행된 SQL(count 쿼리 포함)을 모아서 EXPLAIN, 조건 없이 테이블 전체를 읽으면 실패
+ * - 조건이 없는 메서드(전체 조회, count 등)는 FULL_SCAN_ALLOWED, 조회가 아닌 메서드는 NOT_QUERIES에 등록
+ * - 새 메서드는 셋 중 한 곳에 등록해야 함(everyQueryMethodIsVerified) - 사용자 정의 리포지토리(fragment) 메서드 포함
+ * - 오버로딩된 메서드는 파라미터 타입까지 포함한 이름으로 등록(ex: findByNames(Collection, InClauseMode))
+ */
+@SpringBootTest
+@Transactional
+class MemberQueryPlanTest {
+
+    // 조건 없이 전체를 읽는 계획: /* PUBLIC.MEMBER.tableScan */, /* PUBLIC.PRIMARY_KEY_8 */ (인덱스를 사용하면 /* PUBLIC.IDX_MEMBER_AGE: AGE = ?1 */)
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*[\\w.]+\\s*\\*/");
+
+    // InClauseMode.TEMP_TABLE의 임시 테이블(조회할 이름 목록)은 전체를 읽는 것이 정상, 회원 테이블은 username 인덱스를 사용해야 함
+    private static final String TEMP_TABLE_SCAN = "PUBLIC.MEMBER_NAME_FILTER.tableScan";
+
+    // 없는 값으로 조회(두 번째 페이지가 비어 있어야 Page의 count 쿼리도 실행됨)
+    private static final String USERNAME = "queryPlan";
+    private static final int AGE = 7777;
+    private static final PageRequest PAGE = PageRequest.of(1, 10, Sort.by("username"));
+
+    // 메서드 이름 -> 호출(파라미터 값은 실행 계획과 관계없음)
+    private static final Map<String, Consumer<MemberRepository>> QUERIES = Map.ofEntries(
+            entry("findByUsernameAndAgeGreaterThan", repository -> repository.findByUsernameAndAgeGreaterThan(USERNAME, AGE)),
+            entry("findByUsername", repository -> repository.findByUsername(USERNAME)),
+            entry("findUser", repository -> repository.findUser(USERNAME, AGE)),
+            entry("findMemberDtoPageByAge", repository -> repository.findMemberDtoPageByAge(AGE, PAGE)),
+            entry("findMemberDtoSliceByAge", repository -> repository.findMemberDtoSliceByAge(AGE, PAGE)),
+            entry("findByNames(Collection)", repository -> repository.findByNames(List.of(USERNAME + 1, USERNAME + 2))),
+            entry("findByNames(Collection, InClauseMode)", repository -> {
+                for (InClauseMode mode : InClauseMode.values()) {
+                    repository.findByNames(List.of(USERNAME + 1, USERNAME + 2), mode);
+                }
+            }),
+            entry("findListByUsername", repository -> repository.findListByUsername(USERNAME)),
+            entry("findMemberByUsername", repository -> repository.findMemberByUsername(USERNAME)),
+            entry("findOptionalByUsername", repository -> repository.findOptionalByUsername(USERNAME)),
+            entry("findByAge", repository -> repository.findByAge(AGE, PAGE)),
+            entry("findSliceByAge", repository -> repository.findSliceByAge(AGE, PAGE)),
+            entry("findWindowByAge", repository -> repository.findWindowByAge(AGE, ScrollPosition.keyset(), Sort.by("username"), Limit.of(10))),
+            entry("bulkAgePlus", repository -> repository.bulkAgePlus(AGE)),
+            entry("findEntityGraphByUsername", repository -> repository.findEntityGraphByUsername(USERNAME)),
+            entry("findReadOnlyByUsername", repository -> repository.findReadOnlyByUsername(USERNAME)),
+            entry("findQueryHintsByUsername", repository -> repository.findQueryHintsByUsername(USERNAME, PAGE)),
+            entry("findQueryHintsSliceByUsername", repository -> repository.findQueryHintsSliceByUsername(USERNAME, PAGE)),
+            entry("findProjectionsInterfaceByUsername", repository -> repository.findProjectionsInterfaceByUsername(USERNAME)),
+            entry("findProjectionsClassByUsername", repository -> repository.findProjectionsClassByUsername(USERNAME)),
+            entry("findProjectionsDynamicByUsername", repository -> {
+                repository.findProjectionsDynamicByUsername(USERNAME, UsernameOnly.class); // 생성된 JPQL
+                repository.findProjectionsDynamicByUsername(USERNAME, AgeOnly.class); // 엔티티 조회 후 변환
+            }),
+            entry("findPageByAge", repository -> {
+                for (PagingMode mode : PagingMode.values()) {
+                    repository.findPageByAge(AGE, PAGE, mode);
+                }
+            }),
+            entry("findPageByUsername", repository -> {
+                for (PagingMode mode : PagingMode.values()) {
+                    repository.findPageByUsername(USERNAME, PAGE, mode);
+                }
+            }),
+            entry("bulkAgePlusEvicting", repository -> repository.bulkAgePlusEvicting(AGE)),
+            entry("findByUsernameAsync", repository -> repository.findByUsernameAsync(USERNAME).join()),
+            entry("findByAgeAsync", repository -> repository.findByAgeAsync(AGE, PAGE).join())
+    );
+
+    // 조회 조건이 없어서 전체를 읽는 것이 정상인 메서드
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "findBy", "countBy", "existsBy", "removeBy", "findTop3By", "findAll",
+            "findUsernamesList", "findMemberDto", "findMemberDtoPage", "findMemberDtoSlice", "findWindowBy",
+            "findMemberEntityGraph", "findMemberNamedEntityGraph",
+            "findMemberCustom", "findPage", "forEachMember", "countAsync"
+    );
+
+    // 조회가 아닌 메서드(실행 계획 검증 대상 아님)
+    private static final Set<String> NOT_QUERIES = Set.of("saveAllBatched");
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    SqlCapture sqlCapture;
+
+    @Test
+    void everyQueryMethodIsVerified() {
+        List<String> unverified = new ArrayList<>();
+        for (Method method : repositoryMethods()) {
+            String key = key(method);
+            if (!QUERIES.containsKey(key) && !FULL_SCAN_ALLOWED.contains(key) && !NOT_QUERIES.contains(key)) {
+                unverified.add(key);
+            }
+        }
+        assertThat(unverified).as("QUERIES, FULL_SCAN_ALLOWED, NOT_QUERIES에 등록되지 않은 메서드").isEmpty();
+    }
+
+    // MemberRepository와 사용자 정의 리포지토리에 선언된 메서드(JpaRepository 등 스프링 데이터 공통 메서드 제외)
+    private static List<Method> repositoryMethods() {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : MemberRepository.class.getMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.isSynthetic()
+                    || !method.getDeclaringClass().getPackageName().equals(MemberRepository.class.getPackageName())) {
+                continue;
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    // 메서드 이름, 같은 이름의 메서드가 여러 개면 파라미터 타입 포함
+    private static String key(Method method) {
+        boolean overloaded = repositoryMethods().stream()
+                .filter(other -> other.getName().equals(method.getName()))
+                .count() > 1;
+        if (!overloaded) {
+            return method.getName();
+        }
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    @Test
+    void noFullTableScan() {
+        List<String> fullScans = new ArrayList<>();
+        QUERIES.forEach((name, query) -> {
+            sqlCapture.clear();
+            query.accept(memberRepository);
+            List<String> statements = sqlCapture.statements();
+            assertThat(statements).as(name).isNotEmpty();
+
+            for (String sql : statements) {
+                String plan = explain(sql);
+                if (FULL_SCAN.matcher(plan).results().anyMatch(scan -> !scan.group().contains(TEMP_TABLE_SCAN))) {
+                    fullScans.add(name + " -> " + plan);
+                }
+            }
+        });
+        assertThat(fullScans).as("전체 테이블을 읽는 조회").isEmpty();
+    }
+
+    // 파라미터(?)는 바인딩하지 않아도 EXPLAIN 가능(실행하지 않고 계획만 확인)
+    private String explain(String sql) {
+        return jdbcTemplate.query(con -> con.prepareStatement("explain " + sql),
+                (ResultSetExtractor<String>) rs -> rs.next() ? rs.getString(1) : "");
+    }
+
+    // @GeneratedProjection이 없는 인터페이스(findProjectionsDynamicByUsername의 엔티티 조회 경로)
+    interface AgeOnly {
+        int getAge();
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+    }
+
+    // 하이버네이트가 실행하는 SQL 수집(MonitoringConfig의 StatementInspector로 등록)
+    static class SqlCapture implements StatementListener {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStatement(String sql) {
+            statements.add(sql);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> statements() {
+            return List.copyOf(statements);
+        }
+    }
+}
@@ -3,24 +3,43 @@ package com.example.data_jpa.repository;
 import com.example.data_jpa.dto.MemberDto;
 import com.example.data_jpa.entity.Member;
 import com.example.data_jpa.entity.Team;
+import com.example.data_jpa.monitoring.NPlusOneQueryException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntUnaryOperator;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest
+// 같은 지연 로딩 SQL이 테스트(트랜잭션) 하나에서 threshold를 넘게 실행되면 실패(NPlusOneDetector)
+@SpringBootTest(properties = {"app.monitoring.n-plus-one.mode=fail", "app.monitoring.n-plus-one.threshold=5"})
 @Transactional
 @Rollback(value = false)
 class MemberRepositoryTest {
@@ -29,6 +48,8 @@ class MemberRepositoryTest {
     MemberRepository memberRepository;
     @Autowired
     private TeamRepository teamRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
     @PersistenceContext
     EntityManager em;
 
@@ -186,6 +207,31 @@ class MemberRepositoryTest {
         }
     }
 
+    // DTO로 직접 페이징 조회 - 엔티티가 영속성 컨텍스트에 올라가지 않음
+    @Test
+    @Rollback
+    void findMemberDtoPage() {
+        //given
+        Team teamA = new Team("teamA");
+        teamRepository.save(teamA);
+        Member member1 = new Member("dto1", 4000, teamA);
+        Member member2 = new Member("dto2", 4000, teamA);
+        Member member3 = new Member("dto3", 4000);
+        memberRepository.saveAll(List.of(member1, member2, member3));
+        em.flush();
+        em.clear();
+
+        //when
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "username"));
+        Page<MemberDto> page = memberRepository.findMemberDtoPageByAge(4000, pageRequest);
+
+        //then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(MemberDto::getUsername).containsExactly("dto3", "dto2");
+        assertThat(page.getContent()).extracting(MemberDto::getTeamName).containsExactly(null, "teamA");
+        assertThat(em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities()).isZero();
+    }
+
     // 컬렉션 파라미터 바인딩
     @Test
     void findByNames() {
@@ -201,6 +247,53 @@ class MemberRepositoryTest {
         }
     }
 
+    // 대량 IN 절 조회(청크 분할, 임시 테이블 조인)
+    @Test
+    void findByNamesInClauseMode() {
+        //given
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            names.add("in" + i);
+        }
+        memberRepository.saveAll(names.stream().map(Member::new).toList());
+
+        //when
+        List<Member> chunked = memberRepository.findByNames(names, InClauseMode.CHUNKED);
+        List<Member> tempTable = memberRepository.findByNames(names, InClauseMode.TEMP_TABLE);
+
+        //then
+        assertThat(chunked).hasSize(1000);
+        assertThat(tempTable).hasSize(1000);
+    }
+
+    // PARALLEL은 청크마다 별도 트랜잭션에서 조회하므로 커밋된 데이터로 확인(테스트 트랜잭션 없이 실행)
+    // TEMP_TABLE은 호출한 트랜잭션이 읽기 전용이어도 새 읽기/쓰기 트랜잭션에서 실행됨
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findByNamesParallelAndTempTableInReadOnlyTransaction() {
+        //given
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            names.add("parallel" + i);
+        }
+        List<Member> saved = memberRepository.saveAll(names.stream().map(Member::new).toList());
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        try {
+            //when
+            List<Member> parallel = memberRepository.findByNames(names, InClauseMode.PARALLEL);
+            List<Member> tempTable = readOnly.execute(status -> memberRepository.findByNames(names, InClauseMode.TEMP_TABLE));
+
+            //then
+            assertThat(parallel).extracting(Member::getUsername).containsExactlyInAnyOrderElementsOf(names);
+            assertThat(tempTable).extracting(Member::getUsername).containsExactlyInAnyOrderElementsOf(names);
+        } finally {
+            memberRepository.deleteAllInBatch(saved);
+        }
+    }
+
     /**
      * JPA vs Spring DATA JPA
      * JPA
@@ -269,6 +362,92 @@ class MemberRepositoryTest {
         assertThat(page.hasNext()).isTrue(); // 다음 페이지 존재 확인
     }
 
+    /**
+     * Slice - count 쿼리 없이 size + 1건을 조회해서 다음 페이지 존재 여부 확인
+     * - 같은 조건의 Page 조회는 select + count 2번, Slice 조회는 select 1번
+     */
+    @Test
+    @Rollback
+    void slice() {
+        //given
+        for (int i = 1; i <= 5; i++) {
+            memberRepository.save(new Member("slice" + i, 5000));
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        PageRequest pageRequest = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "username"));
+
+        //when
+        long beforePage = statistics.getPrepareStatementCount();
+        memberRepository.findByAge(5000, pageRequest);
+        long pageStatements = statistics.getPrepareStatementCount() - beforePage;
+
+        long beforeSlice = statistics.getPrepareStatementCount();
+        Slice<Member> slice = memberRepository.findSliceByAge(5000, pageRequest);
+        Slice<MemberDto> last = memberRepository.findMemberDtoSliceByAge(5000, pageRequest.next());
+        long sliceStatements = statistics.getPrepareStatementCount() - beforeSlice;
+
+        //then
+        assertThat(pageStatements).isEqualTo(2);
+        assertThat(sliceStatements).isEqualTo(2); // Slice 2번 조회 -> select 2번
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.getContent()).extracting(Member::getUsername).containsExactly("slice5", "slice4", "slice3");
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(MemberDto::getUsername).containsExactly("slice2", "slice1");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    /**
+     * 페이징 모드
+     * - CACHED_COUNT: 전체 개수를 포함한 Page 반환(count 결과는 캐시)
+     * - HAS_MORE: count 없이 다음 페이지 존재 여부만 포함한 Slice 반환
+     */
+    @Test
+    void pagingMode() {
+        //given
+        memberRepository.save(new Member("member1", 11));
+        memberRepository.save(new Member("member2", 11));
+        memberRepository.save(new Member("member3", 11));
+        memberRepository.save(new Member("member4", 11));
+        memberRepository.save(new Member("member5", 11));
+
+        //when
+        PageRequest pageRequest = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "username"));
+        Slice<Member> cached = memberRepository.findPageByAge(11, pageRequest, PagingMode.CACHED_COUNT);
+        Slice<Member> hasMore = memberRepository.findPageByAge(11, pageRequest, PagingMode.HAS_MORE);
+
+        //then
+        assertThat(cached).isInstanceOf(Page.class);
+        assertThat(((Page<Member>) cached).getTotalElements()).isEqualTo(5);
+        assertThat(hasMore).isNotInstanceOf(Page.class);
+        assertThat(hasMore.getContent()).extracting(Member::getUsername).containsExactly("member5", "member4", "member3");
+        assertThat(hasMore.hasNext()).isTrue();
+    }
+
+    /**
+     * 키셋 페이징
+     * - 첫 페이지는 ScrollPosition.keyset(), 다음 페이지는 이전 Window의 마지막 위치로 조회
+     */
+    @Test
+    void keysetPaging() {
+        //given - 샘플 회원(MemberSeeder: member1 ~ member99, 나이 1 ~ 99)과 겹치지 않는 이름, 나이 사용
+        for (int i = 1; i <= 5; i++) {
+            memberRepository.save(new Member("keyset" + i, 6100));
+        }
+
+        //when
+        Sort sort = Sort.by(Sort.Direction.DESC, "username");
+        Window<Member> first = memberRepository.findWindowByAge(6100, ScrollPosition.keyset(), sort, Limit.of(3));
+        Window<Member> second = memberRepository.findWindowByAge(6100, first.positionAt(first.size() - 1), sort, Limit.of(3));
+
+        //then
+        assertThat(first.getContent()).extracting(Member::getUsername).containsExactly("keyset5", "keyset4", "keyset3");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Member::getUsername).containsExactly("keyset2", "keyset1");
+        assertThat(second.hasNext()).isFalse();
+    }
+
     /**
      * Spring DATA JPA 사용한 벌크성 수정 쿼리 테스트
      * @Modifying 어노테이션 사용 필요
@@ -294,6 +473,80 @@ class MemberRepositoryTest {
         assertThat(resultCount).isEqualTo(3);
     }
 
+    /**
+     * 벌크 연산 후 다시 조회할 때 실행되는 select 수
+     * - clearAutomatically(bulkAgePlus): 영속성 컨텍스트 전체 초기화 -> 팀, 수정되지 않은 회원까지 다시 조회
+     * - bulkAgePlusEvicting: 수정된 회원만 다시 조회
+     * - 다른 테스트 데이터에 영향을 주지 않도록 나이 1000 이상 사용
+     */
+    @Test
+    void bulkAgePlusEvicting() {
+        assertThat(reselectsAfterBulkUpdate(memberRepository::bulkAgePlus)).isEqualTo(3);
+        assertThat(reselectsAfterBulkUpdate(memberRepository::bulkAgePlusEvicting)).isEqualTo(1);
+    }
+
+    private long reselectsAfterBulkUpdate(IntUnaryOperator bulkUpdate) {
+        // given
+        Team team = teamRepository.save(new Team("bulkTeam"));
+        Member untouched = memberRepository.save(new Member("bulkMember1", 1000, team));
+        Member updated = memberRepository.save(new Member("bulkMember2", 2000, team));
+        em.flush();
+
+        // when
+        bulkUpdate.applyAsInt(1500);
+
+        // then
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        em.find(Team.class, team.getId());
+        em.find(Member.class, untouched.getId());
+        assertThat(em.find(Member.class, updated.getId()).getAge()).isEqualTo(2001);
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    /**
+     * N+1 감지 - 배치 페치를 끄고(app.fetch.batch-size=1) 회원 10명의 팀을 지연 로딩하면 같은 select가 10번 실행됨
+     * - 기본 설정(batch-size 100)에서는 팀 10개가 IN 절 select 한 번으로 초기화되므로 별도 컨텍스트에서 확인
+     */
+    @Nested
+    @TestPropertySource(properties = "app.fetch.batch-size=1")
+    class WithoutBatchFetch {
+
+        @Autowired
+        MemberRepository memberRepository;
+        @Autowired
+        TeamRepository teamRepository;
+        @PersistenceContext
+        EntityManager em;
+
+        // 2차 캐시는 캐시된 다른 테스트 컨텍스트와 공유되고 이 컨텍스트가 스키마를 다시 만들면서 id가 재사용되므로,
+        // 이전 테스트의 팀이 캐시에서 조회되어 지연 로딩 select가 실행되지 않는 것을 방지
+        @BeforeEach
+        void evictSecondLevelCache() {
+            em.getEntityManagerFactory().getCache().evictAll();
+        }
+
+        @Test
+        @Rollback
+        void nPlusOneDetected() {
+            //given
+            for (int i = 0; i < 10; i++) {
+                Team team = teamRepository.save(new Team("nPlusOneTeam" + i));
+                memberRepository.save(new Member("nPlusOneMember", 3000, team));
+            }
+            em.flush();
+            em.clear();
+
+            //when
+            List<Member> members = memberRepository.findListByUsername("nPlusOneMember");
+
+            //then
+            assertThatThrownBy(() -> members.forEach(member -> member.getTeam().getName()))
+                    .isInstanceOf(NPlusOneQueryException.class)
+                    .hasMessageContaining("MemberRepositoryTest");
+        }
+    }
+
     @Test
     void findMembers() {
         //given
@@ -370,6 +623,34 @@ class MemberRepositoryTest {
         System.out.println("page.getTotalPages() = " + page.getTotalPages());
     }
 
+    /**
+     * JPA 쿼리 힌트 Slice 사용 - count 쿼리 없이 조회, 조회한 엔티티는 읽기 전용(스냅샷 X)
+     */
+    @Test
+    void findQueryHintsSliceByUsername() {
+        //given
+        for (int i = 0; i < 4; i++) {
+            memberRepository.save(new Member("hintSlice", 10));
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        PageRequest pageRequest = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id"));
+
+        //when
+        long before = statistics.getPrepareStatementCount();
+        Slice<Member> slice = memberRepository.findQueryHintsSliceByUsername("hintSlice", pageRequest);
+        long statements = statistics.getPrepareStatementCount() - before;
+
+        //then
+        assertThat(statements).isEqualTo(1);
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.getContent()).hasSize(3);
+        assertThat(slice.hasNext()).isTrue();
+        Session session = em.unwrap(Session.class);
+        assertThat(slice.getContent()).allMatch(session::isReadOnly);
+    }
+
     @Test
     void memberRepositoryCustom() {
         List<Member> memberCustom = memberRepository.findMemberCustom(); // MemberRepositoryImpl에 구현된 메서드 호출됨
@@ -416,12 +697,16 @@ class MemberRepositoryTest {
         for (UsernameOnlyDto dynamicProject : dynamicProjects) {
             System.out.println("dynamicProject = " + dynamicProject.getUsername());
         }
+        List<UsernameOnly> dynamicInterfaces = memberRepository.findProjectionsDynamicByUsername("m1", UsernameOnly.class);
 
 
         //then
         assertThat(findMembers1.size()).isEqualTo(1);
+        assertThat(findMembers1.get(0).getUsername()).isEqualTo("m1 0 teamA"); // 오픈 프로젝션 SpEL과 같은 결과
         assertThat(findMembers2.size()).isEqualTo(1);
         assertThat(dynamicProjects.size()).isEqualTo(1);
+        assertThat(dynamicProjects.get(0).getUsername()).isEqualTo("m1");
+        assertThat(dynamicInterfaces).extracting(UsernameOnly::getUsername).containsExactly("m1 0 teamA"); // 생성된 매퍼(fromRow)로 변환
 
     }
 
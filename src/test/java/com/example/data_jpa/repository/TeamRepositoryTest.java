@@ -0,0 +1,60 @@
+package com.example.data_jpa.repository;
+
+import com.example.data_jpa.entity.Member;
+import com.example.data_jpa.entity.Team;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.fetch.batch-size=10")
+@Transactional
+class TeamRepositoryTest {
+
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @PersistenceContext
+    EntityManager em;
+
+    /**
+     * 배치 페치 - 팀 수와 관계없이 쿼리 수는 1(팀) + ceil(팀 수 / 10)(회원)
+     */
+    @Test
+    void batchFetchMembers() {
+        assertThat(queriesToLoadTeamsWithMembers("batchA", 25)).isEqualTo(1 + 3);
+        assertThat(queriesToLoadTeamsWithMembers("batchB", 100)).isEqualTo(1 + 10);
+    }
+
+    private long queriesToLoadTeamsWithMembers(String prefix, int teamCount) {
+        //given: 팀마다 회원 2명
+        for (int i = 0; i < teamCount; i++) {
+            Team team = teamRepository.save(new Team(prefix + i));
+            memberRepository.save(new Member(prefix + "Member", 10, team));
+            memberRepository.save(new Member(prefix + "Member", 20, team));
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        List<Team> teams = teamRepository.findByNameStartingWith(prefix);
+        for (Team team : teams) {
+            assertThat(team.getMembers()).hasSize(2);
+        }
+
+        //then
+        assertThat(teams).hasSize(teamCount);
+        return statistics.getPrepareStatementCount() - before;
+    }
+}